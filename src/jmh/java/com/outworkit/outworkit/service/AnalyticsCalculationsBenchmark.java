@@ -0,0 +1,67 @@
+package com.outworkit.outworkit.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The small calculators behind the analytics endpoints: building an {@link ActivityCalendar} from
+ * training days, the two streaks over it, and the Epley one-rep max estimate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsCalculationsBenchmark {
+
+    private static final int SETS = 1024;
+
+    @Param({"100", "1000"})
+    public int workouts;
+
+    private long today;
+    private long[] trainingDays;
+    private ActivityCalendar calendar;
+    private final double[] weights = new double[SETS];
+    private final int[] reps = new int[SETS];
+
+    @Setup
+    public void setUp() {
+        today = LocalDate.now().toEpochDay();
+        trainingDays = AnalyticsFixtures.trainingDays(workouts, today);
+        calendar = ActivityCalendar.of(trainingDays);
+        Random random = new Random(42);
+        for (int i = 0; i < SETS; i++) {
+            weights[i] = 20 + random.nextInt(80) * 2.5;
+            reps[i] = 1 + random.nextInt(15);
+        }
+    }
+
+    @Benchmark
+    public ActivityCalendar buildCalendar() {
+        return ActivityCalendar.of(trainingDays);
+    }
+
+    @Benchmark
+    public int currentStreak() {
+        return calendar.currentStreak(today);
+    }
+
+    @Benchmark
+    public int longestStreak() {
+        return calendar.longestStreak();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SETS)
+    public void oneRepMax(Blackhole blackhole) {
+        for (int i = 0; i < SETS; i++) {
+            blackhole.consume(AnalyticsService.calculateOneRepMax(weights[i], reps[i]));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.outworkit.outworkit.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.outworkit.outworkit.entity.*;
+import com.outworkit.outworkit.repository.VolumeBucketView;
+import com.outworkit.outworkit.repository.WorkoutCountView;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Synthetic training history of one user for the benchmarks.
+ * Workouts fall on most days up to today, with a rest day now and then and a longer break every
+ * few weeks, and draw their exercises from a fixed catalog. Weights drift upwards over the history
+ * so personal records keep moving. A fixed seed keeps runs comparable.
+ */
+final class AnalyticsFixtures {
+
+    static final long USER_ID = 1L;
+    static final int CATALOG_SIZE = 40;
+    private static final String[] MUSCLE_GROUPS = {"Chest", "Back", "Legs", "Shoulders", "Biceps", "Triceps", "Core", "Glutes"};
+    private static final long SEED = 42;
+
+    final LocalDate today = LocalDate.now();
+    final User user;
+    final List<Exercise> exercises = new ArrayList<>(CATALOG_SIZE);
+    final List<Workout> workouts;
+
+    AnalyticsFixtures(int workoutCount, int exercisesPerWorkout, int setsPerExercise) {
+        Random random = new Random(SEED);
+        user = new User();
+        user.setId(USER_ID);
+        user.setUserName("benchmark");
+
+        List<MuscleGroup> muscleGroups = new ArrayList<>();
+        for (int g = 0; g < MUSCLE_GROUPS.length; g++) {
+            MuscleGroup muscleGroup = new MuscleGroup();
+            muscleGroup.setId(g + 1L);
+            muscleGroup.setName(MUSCLE_GROUPS[g]);
+            muscleGroups.add(muscleGroup);
+        }
+        for (int e = 0; e < CATALOG_SIZE; e++) {
+            Exercise exercise = new Exercise();
+            exercise.setId(e + 1L);
+            exercise.setName("Exercise " + (e + 1));
+            exercise.setMuscleGroup(muscleGroups.get(e % muscleGroups.size()));
+            exercises.add(exercise);
+        }
+        Split split = new Split();
+        split.setId(1L);
+        split.setName("Push Pull Legs");
+
+        long[] days = trainingDays(workoutCount, today.toEpochDay());
+        workouts = new ArrayList<>(workoutCount);
+        long workoutExerciseId = 1;
+        long resultId = 1;
+        for (int w = 0; w < workoutCount; w++) {
+            Workout workout = new Workout();
+            workout.setId(w + 1L);
+            workout.setUser(user);
+            workout.setSplit(split);
+            workout.setCreatedAt(LocalDate.ofEpochDay(days[w]).atTime(18, random.nextInt(60)));
+            int first = random.nextInt(CATALOG_SIZE);
+            double progress = 1 + 0.5 * w / workoutCount;
+            for (int e = 0; e < Math.min(exercisesPerWorkout, CATALOG_SIZE); e++) {
+                Exercise exercise = exercises.get((first + e) % CATALOG_SIZE);
+                WorkoutExercise workoutExercise = new WorkoutExercise();
+                workoutExercise.setId(workoutExerciseId++);
+                workoutExercise.setWorkout(workout);
+                workoutExercise.setExercise(exercise);
+                for (int s = 0; s < setsPerExercise; s++) {
+                    ExerciseResult result = new ExerciseResult();
+                    result.setId(resultId++);
+                    result.setWorkoutExercise(workoutExercise);
+                    result.setSetNumber(s + 1);
+                    result.setReps(3 + random.nextInt(10));
+                    result.setWeight(Math.round(((20 + exercise.getId() * 2.5) * progress + random.nextInt(10)) / 2.5) * 2.5);
+                    workoutExercise.getResults().add(result);
+                }
+                workout.getWorkoutExercises().add(workoutExercise);
+            }
+            workouts.add(workout);
+        }
+    }
+
+    /**
+     * Ascending epoch days of {@code count} workouts, the last one on {@code today}
+     */
+    static long[] trainingDays(int count, long today) {
+        Random random = new Random(SEED);
+        long[] offsets = new long[count];
+        for (int i = 1; i < count; i++) {
+            int gap = i % 20 == 0 ? 4 : random.nextInt(4) == 0 ? 2 : 1;
+            offsets[i] = offsets[i - 1] + gap;
+        }
+        long[] days = new long[count];
+        for (int i = 0; i < count; i++) {
+            days[i] = today - offsets[count - 1] + offsets[i];
+        }
+        return days;
+    }
+
+    ActivityCalendar calendar() {
+        return ActivityCalendar.of(workouts.stream().mapToLong(w -> w.getCreatedAt().toLocalDate().toEpochDay()).toArray());
+    }
+
+    UserSetHistory setHistory() {
+        UserSetHistory history = UserSetHistory.withCapacity(workouts.size() * 32);
+        for (Workout workout : workouts) {
+            long time = SetHistoryStore.toTime(workout.getCreatedAt());
+            for (WorkoutExercise workoutExercise : workout.getWorkoutExercises()) {
+                for (ExerciseResult result : workoutExercise.getResults()) {
+                    history = history.append(time, workout.getId(), workoutExercise.getId(),
+                            workoutExercise.getExercise().getId(), result.getWeight(), result.getReps());
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Exercise that appears in the most workouts
+     */
+    Exercise mostTrainedExercise() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Workout workout : workouts) {
+            for (WorkoutExercise workoutExercise : workout.getWorkoutExercises()) {
+                counts.merge(workoutExercise.getExercise().getId(), 1, Integer::sum);
+            }
+        }
+        long id = Collections.max(counts.entrySet(), Map.Entry.comparingByValue()).getKey();
+        return exercises.get((int) id - 1);
+    }
+
+    /**
+     * Workout counts per bucket, as the period queries of the workout repository return them
+     */
+    List<WorkoutCountView> workoutCounts(String period) {
+        TreeMap<LocalDate, long[]> buckets = new TreeMap<>();
+        for (Workout workout : workouts) {
+            buckets.computeIfAbsent(periodStart(workout.getCreatedAt().toLocalDate(), period), d -> new long[1])[0]++;
+        }
+        List<WorkoutCountView> counts = new ArrayList<>(buckets.size());
+        buckets.forEach((start, count) -> counts.add(new CountBucket(start.atStartOfDay(), count[0])));
+        return counts;
+    }
+
+    /**
+     * Set, rep and volume sums per bucket, as the period queries of the daily rollups return them
+     */
+    List<VolumeBucketView> volumes(String period) {
+        TreeMap<LocalDate, double[]> buckets = new TreeMap<>();
+        for (Workout workout : workouts) {
+            double[] totals = buckets.computeIfAbsent(periodStart(workout.getCreatedAt().toLocalDate(), period), d -> new double[3]);
+            for (WorkoutExercise workoutExercise : workout.getWorkoutExercises()) {
+                for (ExerciseResult result : workoutExercise.getResults()) {
+                    totals[0]++;
+                    totals[1] += result.getReps();
+                    totals[2] += result.getWeight() * result.getReps();
+                }
+            }
+        }
+        List<VolumeBucketView> volumes = new ArrayList<>(buckets.size());
+        buckets.forEach((start, totals) -> volumes.add(new VolumeBucket(start, (long) totals[0], (long) totals[1], totals[2])));
+        return volumes;
+    }
+
+    private static LocalDate periodStart(LocalDate day, String period) {
+        return switch (period) {
+            case "weekly" -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "monthly" -> day.withDayOfMonth(1);
+            case "yearly" -> day.withDayOfYear(1);
+            default -> day;
+        };
+    }
+
+    /**
+     * The services log every call at INFO; without Spring Boot's logging setup logback would print them all
+     */
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    private record CountBucket(LocalDateTime periodStart, Long workoutCount) implements WorkoutCountView {
+
+        @Override
+        public LocalDateTime getPeriodStart() {
+            return periodStart;
+        }
+
+        @Override
+        public Long getWorkoutCount() {
+            return workoutCount;
+        }
+    }
+
+    private record VolumeBucket(LocalDate periodStart, Long setCount, Long repCount, Double totalVolume)
+            implements VolumeBucketView {
+
+        @Override
+        public LocalDate getPeriodStart() {
+            return periodStart;
+        }
+
+        @Override
+        public Long getSetCount() {
+            return setCount;
+        }
+
+        @Override
+        public Long getRepCount() {
+            return repCount;
+        }
+
+        @Override
+        public Double getTotalVolume() {
+            return totalVolume;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ExerciseProgressDTO;
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.dto.UserStatsDTO;
+import com.outworkit.outworkit.dto.VolumeProgressDTO;
+import com.outworkit.outworkit.dto.WorkoutSummaryDTO;
+import com.outworkit.outworkit.entity.Exercise;
+import com.outworkit.outworkit.entity.Workout;
+import com.outworkit.outworkit.repository.*;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * The public {@link AnalyticsService} computations over an in-memory {@link AnalyticsFixtures} history.
+ * Repositories and collaborating services are stub-only mocks answering with the prepared rows, so
+ * the numbers cover the service's own work: walking the workout trees or the set history, folding
+ * totals and building the DTOs. Query time is what {@code outworkit.repository} measures in production.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsServiceBenchmark {
+
+    @Param({"100", "1000"})
+    public int workouts;
+
+    @Param({"6"})
+    public int exercisesPerWorkout;
+
+    @Param({"4"})
+    public int setsPerExercise;
+
+    private AnalyticsService fromWorkouts;
+    private AnalyticsService fromSetHistory;
+    private Long exerciseId;
+    private Long lastWorkoutId;
+
+    @Setup
+    public void setUp() {
+        AnalyticsFixtures.quietLogging();
+        AnalyticsFixtures fixtures = new AnalyticsFixtures(workouts, exercisesPerWorkout, setsPerExercise);
+        Exercise exercise = fixtures.mostTrainedExercise();
+        Workout lastWorkout = fixtures.workouts.get(fixtures.workouts.size() - 1);
+        exerciseId = exercise.getId();
+        lastWorkoutId = lastWorkout.getId();
+
+        WorkoutRepository workoutRepository = stub(WorkoutRepository.class);
+        when(workoutRepository.countByDay(any(), any(), any())).thenReturn(fixtures.workoutCounts("daily"));
+        when(workoutRepository.countByWeek(any(), any(), any())).thenReturn(fixtures.workoutCounts("weekly"));
+        DailyExerciseRollupRepository rollupRepository = stub(DailyExerciseRollupRepository.class);
+        when(rollupRepository.sumVolumeByDay(any(), any(), any())).thenReturn(fixtures.volumes("daily"));
+        when(rollupRepository.sumVolumeByWeek(any(), any(), any())).thenReturn(fixtures.volumes("weekly"));
+
+        UserRepository userRepository = stub(UserRepository.class);
+        when(userRepository.findById(any())).thenReturn(Optional.of(fixtures.user));
+        ExerciseRepository exerciseRepository = stub(ExerciseRepository.class);
+        when(exerciseRepository.findById(any())).thenReturn(Optional.of(exercise));
+        WorkoutTreeLoader workoutTreeLoader = stub(WorkoutTreeLoader.class);
+        when(workoutTreeLoader.loadForUser(any(), any(), any())).thenReturn(fixtures.workouts);
+        when(workoutTreeLoader.loadWorkout(any())).thenReturn(Optional.of(lastWorkout));
+
+        PersonalRecordService personalRecordService = stub(PersonalRecordService.class);
+        when(personalRecordService.getExercisePersonalRecord(any(), any())).thenReturn(PersonalRecordDTO.builder()
+                .exerciseId(exerciseId)
+                .exerciseName(exercise.getName())
+                .build());
+        when(personalRecordService.findRecordExerciseIds(any())).thenReturn(
+                Set.of(lastWorkout.getWorkoutExercises().get(0).getExercise().getId()));
+        ActivityCalendarService activityCalendarService = stub(ActivityCalendarService.class);
+        when(activityCalendarService.getCalendar(any())).thenReturn(fixtures.calendar());
+
+        SetHistoryStore disabledStore = stub(SetHistoryStore.class);
+        SetHistoryStore enabledStore = stub(SetHistoryStore.class);
+        when(enabledStore.isEnabled()).thenReturn(true);
+        when(enabledStore.get(any())).thenReturn(fixtures.setHistory());
+
+        fromWorkouts = new AnalyticsService(workoutRepository, stub(ExerciseResultRepository.class), userRepository,
+                personalRecordService, rollupRepository, activityCalendarService, disabledStore, exerciseRepository,
+                stub(WorkoutExerciseRepository.class), workoutTreeLoader);
+        fromSetHistory = new AnalyticsService(workoutRepository, stub(ExerciseResultRepository.class), userRepository,
+                personalRecordService, rollupRepository, activityCalendarService, enabledStore, exerciseRepository,
+                stub(WorkoutExerciseRepository.class), workoutTreeLoader);
+    }
+
+    @Benchmark
+    public UserStatsDTO userStats() {
+        return fromWorkouts.getUserStats(AnalyticsFixtures.USER_ID);
+    }
+
+    @Benchmark
+    public ExerciseProgressDTO exerciseProgressFromWorkouts() {
+        return fromWorkouts.getExerciseProgress(AnalyticsFixtures.USER_ID, exerciseId, null, null);
+    }
+
+    @Benchmark
+    public ExerciseProgressDTO exerciseProgressFromSetHistory() {
+        return fromSetHistory.getExerciseProgress(AnalyticsFixtures.USER_ID, exerciseId, null, null);
+    }
+
+    @Benchmark
+    public VolumeProgressDTO dailyVolumeProgress() {
+        return fromWorkouts.getVolumeProgress(AnalyticsFixtures.USER_ID, "daily", null, null);
+    }
+
+    @Benchmark
+    public VolumeProgressDTO weeklyVolumeProgress() {
+        return fromWorkouts.getVolumeProgress(AnalyticsFixtures.USER_ID, "weekly", null, null);
+    }
+
+    @Benchmark
+    public WorkoutSummaryDTO workoutSummary() {
+        return fromWorkouts.getWorkoutSummary(lastWorkoutId);
+    }
+
+    /**
+     * Stub-only mocks keep no record of their invocations, which would otherwise grow with every operation
+     */
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+}
@@ -1,18 +1,40 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.dto.*;
+import com.outworkit.outworkit.service.ActivityCalendarService;
+import com.outworkit.outworkit.service.AnalyticsCache;
 import com.outworkit.outworkit.service.AnalyticsService;
+import com.outworkit.outworkit.service.CohortAnalyticsService;
+import com.outworkit.outworkit.service.DailyRollupBackfillJob;
+import com.outworkit.outworkit.service.DailyRollupService;
+import com.outworkit.outworkit.service.LeaderboardService;
+import com.outworkit.outworkit.service.LiftPercentileService;
+import com.outworkit.outworkit.service.PersonalRecordService;
+import com.outworkit.outworkit.service.SetHistoryStore;
+import com.outworkit.outworkit.service.UserDataVersionService;
+import com.outworkit.outworkit.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
- * REST Controller for analytics and progress tracking endpoints
+ * REST Controller for analytics and progress tracking endpoints.
+ * Per-user GET responses carry a strong ETag built from the user's data version; a request whose
+ * If-None-Match still matches is answered 304 before any analytics query runs.
  */
 @RestController
 @RequestMapping("/api/v1/analytics")
@@ -21,16 +43,27 @@ import java.util.List;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final AnalyticsCache analyticsCache;
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final DailyRollupBackfillJob dailyRollupBackfillJob;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final UserStatsService userStatsService;
+    private final LeaderboardService leaderboardService;
+    private final LiftPercentileService liftPercentileService;
+    private final CohortAnalyticsService cohortAnalyticsService;
+    private final UserDataVersionService userDataVersionService;
 
     /**
      * Get all personal records for a user
      * GET /api/v1/analytics/users/{userId}/personal-records
      */
     @GetMapping("/users/{userId}/personal-records")
-    public ResponseEntity<List<PersonalRecordDTO>> getUserPersonalRecords(@PathVariable Long userId) {
+    public ResponseEntity<List<PersonalRecordDTO>> getUserPersonalRecords(@PathVariable Long userId, WebRequest request) {
         log.info("Request to get personal records for user: {}", userId);
-        List<PersonalRecordDTO> records = analyticsService.getUserPersonalRecords(userId);
-        return ResponseEntity.ok(records);
+        return conditional(userId, request, etag -> analyticsCache.get(userId, "personal-records", List.of(etag),
+                () -> analyticsService.getUserPersonalRecords(userId)));
     }
 
     /**
@@ -40,15 +73,31 @@ public class AnalyticsController {
     @GetMapping("/users/{userId}/exercises/{exerciseId}/personal-record")
     public ResponseEntity<PersonalRecordDTO> getExercisePersonalRecord(
             @PathVariable Long userId,
-            @PathVariable Long exerciseId) {
+            @PathVariable Long exerciseId,
+            WebRequest request) {
         log.info("Request to get personal record for user: {} and exercise: {}", userId, exerciseId);
-        PersonalRecordDTO record = analyticsService.getExercisePersonalRecord(userId, exerciseId);
-        
-        if (record == null) {
-            return ResponseEntity.notFound().build();
-        }
-        
-        return ResponseEntity.ok(record);
+        return conditional(userId, request, etag -> analyticsCache.get(userId, "personal-record", List.of(exerciseId, etag),
+                () -> analyticsService.getExercisePersonalRecord(userId, exerciseId)));
+    }
+
+    /**
+     * Compare the stored personal records of a user against a full rescan of their history
+     * GET /api/v1/analytics/users/{userId}/personal-records/consistency
+     */
+    @GetMapping("/users/{userId}/personal-records/consistency")
+    public ResponseEntity<PersonalRecordConsistencyDTO> checkPersonalRecordConsistency(@PathVariable Long userId) {
+        log.info("Request to check personal record consistency for user: {}", userId);
+        return ResponseEntity.ok(personalRecordService.checkConsistency(userId));
+    }
+
+    /**
+     * Rebuild the stored personal records of a user from a full rescan
+     * POST /api/v1/analytics/users/{userId}/personal-records/rebuild
+     */
+    @PostMapping("/users/{userId}/personal-records/rebuild")
+    public ResponseEntity<List<PersonalRecordDTO>> rebuildPersonalRecords(@PathVariable Long userId) {
+        log.info("Request to rebuild personal records for user: {}", userId);
+        return ResponseEntity.ok(personalRecordService.rebuildForUser(userId));
     }
 
     /**
@@ -61,13 +110,15 @@ public class AnalyticsController {
             @PathVariable Long userId,
             @PathVariable Long exerciseId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            WebRequest request) {
         
         log.info("Request to get exercise progress for user: {}, exercise: {}, from: {}, to: {}", 
                 userId, exerciseId, startDate, endDate);
         
-        ExerciseProgressDTO progress = analyticsService.getExerciseProgress(userId, exerciseId, startDate, endDate);
-        return ResponseEntity.ok(progress);
+        return conditional(userId, request, etag -> analyticsCache.get(userId, "exercise-progress",
+                Arrays.asList(exerciseId, startDate, endDate, etag),
+                () -> analyticsService.getExerciseProgress(userId, exerciseId, startDate, endDate)));
     }
 
     /**
@@ -86,10 +137,30 @@ public class AnalyticsController {
      * GET /api/v1/analytics/users/{userId}/stats
      */
     @GetMapping("/users/{userId}/stats")
-    public ResponseEntity<UserStatsDTO> getUserStats(@PathVariable Long userId) {
+    public ResponseEntity<UserStatsDTO> getUserStats(@PathVariable Long userId, WebRequest request) {
         log.info("Request to get comprehensive stats for user: {}", userId);
-        UserStatsDTO stats = analyticsService.getUserStats(userId);
-        return ResponseEntity.ok(stats);
+        // Streaks depend on today; the tag carries the date, so it also keys the cache by day
+        return conditional(userId, request, etag -> analyticsCache.get(userId, "stats", List.of(etag),
+                () -> userStatsService.getUserStats(userId)));
+    }
+
+    /**
+     * Get the training-day heatmap of a user, ending today
+     * GET /api/v1/analytics/users/{userId}/activity-heatmap
+     * Query params:
+     *   - days: window length (default: 365, max: 3660)
+     */
+    @GetMapping("/users/{userId}/activity-heatmap")
+    public ResponseEntity<ActivityHeatmapDTO> getActivityHeatmap(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "365") int days,
+            WebRequest request) {
+        log.info("Request to get activity heatmap for user: {} over {} days", userId, days);
+
+        if (days < 1 || days > 3660) {
+            throw new BadRequestException("days must be between 1 and 3660");
+        }
+        return conditional(userId, request, etag -> activityCalendarService.getHeatmap(userId, days, LocalDate.now()));
     }
 
     /**
@@ -104,30 +175,182 @@ public class AnalyticsController {
             @PathVariable Long userId,
             @RequestParam(defaultValue = "weekly") String period,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            WebRequest request) {
         
         log.info("Request to get volume progress for user: {}, period: {}, from: {}, to: {}", 
                 userId, period, startDate, endDate);
         
-        VolumeProgressDTO progress = analyticsService.getVolumeProgress(userId, period, startDate, endDate);
-        return ResponseEntity.ok(progress);
+        return conditional(userId, request, etag -> analyticsCache.get(userId, "volume-progress",
+                Arrays.asList(period, startDate, endDate, etag),
+                () -> analyticsService.getVolumeProgress(userId, period, startDate, endDate)));
     }
 
     /**
-     * Get workout summaries for multiple workouts
+     * Rebuild the daily rollups from raw sets, for one user or for everyone
+     * POST /api/v1/analytics/rollups/rebuild
+     * Optional query param: userId
+     */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildRollups(@RequestParam(required = false) Long userId) {
+        log.info("Request to rebuild daily rollups for user: {}", userId != null ? userId : "all");
+
+        if (userId != null) {
+            return ResponseEntity.ok(Map.of("rows", dailyRollupService.rebuildForUser(userId)));
+        }
+        return ResponseEntity.ok(Map.of("users", dailyRollupBackfillJob.run()));
+    }
+
+    /**
+     * Get heap usage of the in-memory set history store, per cached user
+     * GET /api/v1/analytics/set-store
+     */
+    @GetMapping("/set-store")
+    public ResponseEntity<SetStoreStatsDTO> getSetStoreStats() {
+        log.info("Request to get set store stats");
+        return ResponseEntity.ok(setHistoryStore.getStats());
+    }
+
+    /**
+     * Get a page of workout summaries for a user, newest first
      * GET /api/v1/analytics/users/{userId}/workout-summaries
-     * Optional query params: startDate, endDate
+     * Query params:
+     *   - startDate, endDate: optional date filters (format: yyyy-MM-dd'T'HH:mm:ss)
+     *   - limit: page size (default: 20, max: 100)
+     *   - cursor: nextCursor of the previous page
      */
     @GetMapping("/users/{userId}/workout-summaries")
-    public ResponseEntity<List<WorkoutSummaryDTO>> getUserWorkoutSummaries(
+    public ResponseEntity<WorkoutSummaryPageDTO> getUserWorkoutSummaries(
             @PathVariable Long userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
         
         log.info("Request to get workout summaries for user: {}, from: {}, to: {}", userId, startDate, endDate);
-        
-        // This would need additional implementation in the service
-        // For now, return a not implemented response or implement if needed
-        return ResponseEntity.status(501).build(); // Not Implemented
+
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("limit must be between 1 and 100");
+        }
+        return conditional(userId, request,
+                etag -> analyticsService.getWorkoutSummaries(userId, startDate, endDate, cursor, limit));
+    }
+
+    /**
+     * Get a page of the leaderboard of an exercise, ranked by estimated 1RM
+     * GET /api/v1/analytics/exercises/{exerciseId}/leaderboard
+     * Query params:
+     *   - page: zero-based page number (default: 0)
+     *   - size: page size (default: 20, max: 100)
+     */
+    @GetMapping("/exercises/{exerciseId}/leaderboard")
+    public ResponseEntity<LeaderboardPageDTO> getExerciseLeaderboard(
+            @PathVariable Long exerciseId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Request to get leaderboard for exercise: {}, page: {}, size: {}", exerciseId, page, size);
+
+        if (page < 0) {
+            throw new BadRequestException("page must be zero or positive");
+        }
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("size must be between 1 and 100");
+        }
+        return ResponseEntity.ok(leaderboardService.getPage(exerciseId, page, size));
+    }
+
+    /**
+     * Get the rank of a user on the leaderboard of an exercise
+     * GET /api/v1/analytics/exercises/{exerciseId}/leaderboard/users/{userId}
+     */
+    @GetMapping("/exercises/{exerciseId}/leaderboard/users/{userId}")
+    public ResponseEntity<LeaderboardRankDTO> getExerciseLeaderboardRank(
+            @PathVariable Long exerciseId,
+            @PathVariable Long userId) {
+
+        log.info("Request to get leaderboard rank of user: {} for exercise: {}", userId, exerciseId);
+        return ResponseEntity.ok(leaderboardService.getRank(exerciseId, userId));
+    }
+
+    /**
+     * Get the percentile of a 1RM among all lifters of an exercise
+     * GET /api/v1/analytics/exercises/{exerciseId}/percentile
+     * Query params (exactly one):
+     *   - userId: use the personal record of this user
+     *   - oneRepMax: use this estimated 1RM
+     */
+    @GetMapping("/exercises/{exerciseId}/percentile")
+    public ResponseEntity<LiftPercentileDTO> getLiftPercentile(
+            @PathVariable Long exerciseId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Double oneRepMax) {
+
+        log.info("Request to get 1RM percentile for exercise: {}, user: {}, oneRepMax: {}", exerciseId, userId, oneRepMax);
+
+        if ((userId == null) == (oneRepMax == null)) {
+            throw new BadRequestException("Exactly one of userId or oneRepMax is required");
+        }
+        if (userId != null) {
+            return ResponseEntity.ok(liftPercentileService.getUserPercentile(exerciseId, userId));
+        }
+        if (oneRepMax < 0 || oneRepMax.isNaN() || oneRepMax.isInfinite()) {
+            throw new BadRequestException("oneRepMax must be zero or positive");
+        }
+        return ResponseEntity.ok(liftPercentileService.getPercentile(exerciseId, oneRepMax));
+    }
+
+    /**
+     * Rebuild the 1RM percentile sketches of every exercise from the personal records
+     * POST /api/v1/analytics/percentiles/rebuild
+     */
+    @PostMapping("/percentiles/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildPercentiles() {
+        log.info("Request to rebuild 1RM percentile sketches");
+        return ResponseEntity.ok(Map.of("exercises", liftPercentileService.rebuild()));
+    }
+
+    /**
+     * Get weekly volume since signup and volume by muscle group for every signup-month cohort
+     * GET /api/v1/analytics/cohorts
+     * Query params:
+     *   - weeks: weeks since signup to report (default: 12, max: 104)
+     *   - fromCohort, toCohort: optional signup month filters (format: yyyy-MM)
+     */
+    @GetMapping("/cohorts")
+    public ResponseEntity<CohortReportDTO> getCohortReport(
+            @RequestParam(defaultValue = "12") int weeks,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromCohort,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth toCohort) {
+
+        log.info("Request to get cohort report for {} weeks, cohorts {} to {}", weeks, fromCohort, toCohort);
+
+        if (weeks < 1 || weeks > 104) {
+            throw new BadRequestException("weeks must be between 1 and 104");
+        }
+        if (fromCohort != null && toCohort != null && fromCohort.isAfter(toCohort)) {
+            throw new BadRequestException("fromCohort must not be after toCohort");
+        }
+        return ResponseEntity.ok(cohortAnalyticsService.getCohortReport(weeks, fromCohort, toCohort));
+    }
+
+    /**
+     * Answer 304 when If-None-Match still matches the user's tag, otherwise run the query and tag its result.
+     * The tag is read before the query and passed to it: cached results are keyed by it, so a result
+     * computed before a write committed is never served under the newer tag.
+     */
+    private <T> ResponseEntity<T> conditional(Long userId, WebRequest request, Function<String, T> query) {
+        String etag = userDataVersionService.getETag(userId);
+        CacheControl revalidate = CacheControl.noCache().cachePrivate();
+        // On a match this has already set the status and the ETag header
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(revalidate).build();
+        }
+        T body = query.apply(etag);
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(revalidate).body(body);
     }
 }
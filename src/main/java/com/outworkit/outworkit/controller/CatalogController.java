@@ -0,0 +1,39 @@
+package com.outworkit.outworkit.controller;
+
+import com.outworkit.outworkit.dto.CatalogStatsDTO;
+import com.outworkit.outworkit.service.ReferenceCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for administering the in-memory reference catalog
+ */
+@RestController
+@RequestMapping("/api/v1/catalog")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogController {
+
+    private final ReferenceCatalogService referenceCatalogService;
+
+    /**
+     * Size and load time of the current catalog snapshot
+     * GET /api/v1/catalog
+     */
+    @GetMapping
+    public ResponseEntity<CatalogStatsDTO> getCatalogStats() {
+        return ResponseEntity.ok(referenceCatalogService.getStats());
+    }
+
+    /**
+     * Reload the catalog from the database, e.g. after rows were changed outside the API
+     * POST /api/v1/catalog/reload
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<CatalogStatsDTO> reloadCatalog() {
+        log.info("Request to reload the reference catalog");
+        return ResponseEntity.ok(referenceCatalogService.reload());
+    }
+}
@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.EquipmentDTO;
 import com.outworkit.outworkit.entity.Equipment;
 import com.outworkit.outworkit.service.EquipmentService;
 import jakarta.validation.Valid;
@@ -25,32 +26,32 @@ public class EquipmentController {
 
 
     @GetMapping
-    public ResponseEntity<List<Equipment>> getAllEquipments() {
+    public ResponseEntity<List<EquipmentDTO>> getAllEquipments() {
         log.info("Solicitando todos los equipos");
-        List<Equipment> equipments = equipmentService.getEquipments();
+        List<EquipmentDTO> equipments = equipmentService.getEquipments();
         return ResponseEntity.ok(equipments);
     }
 
     @GetMapping("/{equipmentId}")
-    public ResponseEntity<Equipment> getEquipmentById(@PathVariable Long equipmentId) {
+    public ResponseEntity<EquipmentDTO> getEquipmentById(@PathVariable Long equipmentId) {
         log.info("Solicitando equipo con ID: {}", equipmentId);
-        Equipment equipment = equipmentService.getEquipment(equipmentId);
+        EquipmentDTO equipment = equipmentService.getEquipment(equipmentId);
         return ResponseEntity.ok(equipment);
     }
 
     @PostMapping
-    public ResponseEntity<Equipment> createEquipment(@Valid @RequestBody Equipment equipment){
+    public ResponseEntity<EquipmentDTO> createEquipment(@Valid @RequestBody Equipment equipment){
         // return 400 when the provided equipment is invalid
         if(!isValidEquipment(equipment)){
             log.warn("Provide valid equipment data");
             return ResponseEntity.badRequest().build();
         }
         Equipment savedEquipment = equipmentService.saveOrUpdate(equipment);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedEquipment);
+        return ResponseEntity.status(HttpStatus.CREATED).body(EquipmentDTO.from(savedEquipment));
     }
 
     @PutMapping("/{equipmentId}")
-    public ResponseEntity<Equipment> updateEquipment(
+    public ResponseEntity<EquipmentDTO> updateEquipment(
             @PathVariable Long equipmentId,
             @Valid @RequestBody Equipment equipment) {
 
@@ -66,7 +67,7 @@ public class EquipmentController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         Equipment updatedEquipment = equipmentService.saveOrUpdate(equipment);
-        return ResponseEntity.ok(updatedEquipment);
+        return ResponseEntity.ok(EquipmentDTO.from(updatedEquipment));
     }
 
     @DeleteMapping("/{equipmentId}")
@@ -1,8 +1,10 @@
 package com.outworkit.outworkit.controller;
 
 
+import com.outworkit.outworkit.dto.ExerciseResultDTO;
 import com.outworkit.outworkit.entity.ExerciseResult;
 import com.outworkit.outworkit.service.ExerciseResultService;
+import com.outworkit.outworkit.service.ExerciseResultWriteBehind;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -10,11 +12,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -23,37 +27,63 @@ import java.util.List;
 @Slf4j
 public class ExerciseResultController {
     private final ExerciseResultService exerciseResultService;
+    private final ExerciseResultWriteBehind exerciseResultWriteBehind;
 
+    /**
+     * List sets by id, one page at a time
+     * GET /api/v1/exercise-results
+     * Query params:
+     *   - workoutExerciseId, exerciseId, userId: optional filters
+     *   - startDate, endDate: optional workout date filters (format: yyyy-MM-dd'T'HH:mm:ss)
+     *   - limit: page size (default: 50, max: 200)
+     *   - cursor: X-Next-Cursor header of the previous page
+     *   - order: asc or desc by id (default: asc)
+     * The cursor of the next page is returned in the X-Next-Cursor header, absent on the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<ExerciseResult>> getAllExerciseResults(){
-        log.info("Requesting exercise results");
-        List<ExerciseResult> exerciseResults = exerciseResultService.getExerciseResults();
-        return ResponseEntity.ok(exerciseResults);
+    public ResponseEntity<List<ExerciseResultDTO>> getAllExerciseResults(
+            @RequestParam(required = false) Long workoutExerciseId,
+            @RequestParam(required = false) Long exerciseId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order){
+        log.info("Requesting exercise results, cursor: {}", cursor);
+        Pagination.checkLimit(limit);
+        return Pagination.ok(exerciseResultService.getExerciseResults(workoutExerciseId, exerciseId, userId,
+                startDate, endDate, cursor, limit, Pagination.descending(order)));
     }
 
     @GetMapping("/{exerciseResultId}")
-    public ResponseEntity<ExerciseResult> getExerciseResult(@PathVariable Long exerciseResultId){
+    public ResponseEntity<ExerciseResultDTO> getExerciseResult(@PathVariable Long exerciseResultId){
         log.info("Retrieving exercise result with Id: {}", exerciseResultId);
-        ExerciseResult exerciseResult = exerciseResultService.getExerciseResult(exerciseResultId);
+        ExerciseResultDTO exerciseResult = exerciseResultService.getExerciseResult(exerciseResultId);
         return ResponseEntity.ok(exerciseResult);
     }
 
     @PostMapping
-    public ResponseEntity<ExerciseResult> createExerciseResult(@Valid @RequestBody ExerciseResult exerciseResult){
+    public ResponseEntity<ExerciseResultDTO> createExerciseResult(@Valid @RequestBody ExerciseResult exerciseResult){
         log.info("Creating new exercise result with Id: {}", exerciseResult.getId());
+        if (exerciseResultWriteBehind.isEnabled() && exerciseResult.getId() == null) {
+            // Acknowledged once queued; the row and its id exist after the next flush
+            exerciseResultWriteBehind.submit(exerciseResult);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ExerciseResultDTO.from(exerciseResult));
+        }
         ExerciseResult saveExerciseResult = exerciseResultService.saveOrUpdate(exerciseResult);
-        return ResponseEntity.status(HttpStatus.CREATED).body(saveExerciseResult);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ExerciseResultDTO.from(saveExerciseResult));
     }
 
     @PutMapping("/{exerciseResultId}")
-    public ResponseEntity<ExerciseResult> updateExcerciseResult(@PathVariable Long exerciseResultId, @Valid @RequestBody ExerciseResult exerciseResult){
+    public ResponseEntity<ExerciseResultDTO> updateExcerciseResult(@PathVariable Long exerciseResultId, @Valid @RequestBody ExerciseResult exerciseResult){
         log.info("Updating exercise result with id: {}", exerciseResultId);
         exerciseResult.setId(exerciseResultId);
         ExerciseResult updateExerciseResult = exerciseResultService.saveOrUpdate(exerciseResult);
-        return ResponseEntity.ok(updateExerciseResult);
+        return ResponseEntity.ok(ExerciseResultDTO.from(updateExerciseResult));
     }
 
-    @DeleteMapping("/{exerciseResulltId}")
+    @DeleteMapping("/{exerciseResultId}")
     public ResponseEntity<Void> deleteExerciseResult(@PathVariable Long exerciseResultId){
         log.info("Deleting exercise result with id: {}", exerciseResultId);
         exerciseResultService.delete(exerciseResultId);
@@ -1,6 +1,8 @@
 package com.outworkit.outworkit.controller;
 
 
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.ExerciseDTO;
 import com.outworkit.outworkit.entity.Exercise;
 import com.outworkit.outworkit.service.ExerciseService;
 import jakarta.validation.Valid;
@@ -22,32 +24,54 @@ public class ExercisesController {
 
 
     @GetMapping
-    public ResponseEntity<List<Exercise>> getAllExercises(){
+    public ResponseEntity<List<ExerciseDTO>> getAllExercises(){
         log.info("Requesting exercises");
-        List<Exercise> exercises = exerciseService.getExercises();
+        List<ExerciseDTO> exercises = exerciseService.getExercises();
         return ResponseEntity.ok(exercises);
     }
 
+    /**
+     * Ranked autocomplete over exercise, equipment and muscle group names, tolerant of typos
+     * GET /api/v1/exercises/search
+     * Query params:
+     *   - q: text typed so far
+     *   - limit: max results (default: 10, max: 50)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ExerciseDTO>> searchExercises(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit){
+        log.debug("Searching exercises for: {}", q);
+
+        if(q.isBlank()){
+            throw new BadRequestException("q is required");
+        }
+        if(limit < 1 || limit > 50){
+            throw new BadRequestException("limit must be between 1 and 50");
+        }
+        return ResponseEntity.ok(exerciseService.searchExercises(q, limit));
+    }
+
     @GetMapping("/{exerciseId}")
-    public ResponseEntity<Exercise> getExerciseById(@PathVariable Long exerciseId){
+    public ResponseEntity<ExerciseDTO> getExerciseById(@PathVariable Long exerciseId){
         log.info("Requesting exercise with Id: {}", exerciseId);
-        Exercise exercise = exerciseService.getExercise(exerciseId);
+        ExerciseDTO exercise = exerciseService.getExercise(exerciseId);
         return ResponseEntity.ok(exercise);
     }
 
     @PostMapping
-    public ResponseEntity<Exercise> createExercise(@Valid @RequestBody Exercise exercise){
+    public ResponseEntity<ExerciseDTO> createExercise(@Valid @RequestBody Exercise exercise){
         log.info("Creating new exercise with Id: {}", exercise.getId());
         Exercise saveExercise = exerciseService.saveOrUpdate(exercise);
-        return ResponseEntity.status(HttpStatus.CREATED).body(saveExercise);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ExerciseDTO.from(saveExercise));
     }
 
     @PutMapping("/{exerciseId}")
-    public ResponseEntity<Exercise> updateExercise(@PathVariable Long exerciseId, @Valid @RequestBody Exercise exercise){
+    public ResponseEntity<ExerciseDTO> updateExercise(@PathVariable Long exerciseId, @Valid @RequestBody Exercise exercise){
         log.info("Updating exercise with id: {}", exerciseId);
         exercise.setId(exerciseId);
         Exercise updateExercise = exerciseService.saveOrUpdate(exercise);
-        return ResponseEntity.ok(updateExercise);
+        return ResponseEntity.ok(ExerciseDTO.from(updateExercise));
     }
 
     @DeleteMapping("/{exerciseId}")
@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.MuscleDTO;
 import com.outworkit.outworkit.entity.Muscle;
 import com.outworkit.outworkit.service.MuscleService;
 import jakarta.validation.Valid;
@@ -21,32 +22,32 @@ public class MuscleController {
     private final MuscleService muscleService;
 
     @GetMapping
-    public ResponseEntity<List<Muscle>> getAllMuscles() {
+    public ResponseEntity<List<MuscleDTO>> getAllMuscles() {
         log.info("Solicitando todos los músculos");
-        List<Muscle> muscles = muscleService.getAllMuscles();
+        List<MuscleDTO> muscles = muscleService.getAllMuscles();
         return ResponseEntity.ok(muscles);
     }
 
     @GetMapping("/{muscleId}")
-    public ResponseEntity<Muscle> getMuscleById(@PathVariable Long muscleId) {
+    public ResponseEntity<MuscleDTO> getMuscleById(@PathVariable Long muscleId) {
         log.info("Solicitando músculo con ID: {}", muscleId);
-        Muscle muscle = muscleService.getMuscleById(muscleId);
+        MuscleDTO muscle = muscleService.getMuscleById(muscleId);
         return ResponseEntity.ok(muscle);
     }
 
     @PostMapping
-    public ResponseEntity<Muscle> createMuscle(@Valid @RequestBody Muscle muscle) {
+    public ResponseEntity<MuscleDTO> createMuscle(@Valid @RequestBody Muscle muscle) {
         // return 400 when the provided muscle is invalid
         if (!isValidMuscle(muscle)) {
             log.warn("Provide valid muscle data");
             return ResponseEntity.badRequest().build();
         }
         Muscle savedMuscle = muscleService.saveOrUpdate(muscle);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedMuscle);
+        return ResponseEntity.status(HttpStatus.CREATED).body(MuscleDTO.from(savedMuscle));
     }
 
     @PutMapping("/{muscleId}")
-    public ResponseEntity<Muscle> updateMuscle(
+    public ResponseEntity<MuscleDTO> updateMuscle(
             @PathVariable Long muscleId,
             @Valid @RequestBody Muscle muscle) {
 
@@ -62,7 +63,7 @@ public class MuscleController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         Muscle updatedMuscle = muscleService.saveOrUpdate(muscle);
-        return ResponseEntity.ok(updatedMuscle);
+        return ResponseEntity.ok(MuscleDTO.from(updatedMuscle));
     }
 
     @DeleteMapping("/{muscleId}")
@@ -4,11 +4,11 @@ import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.outworkit.outworkit.entity.MuscleGroup;
+import com.outworkit.outworkit.dto.MuscleGroupDTO;
 import com.outworkit.outworkit.service.MuscleGroupService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,12 +23,12 @@ public class MuscleGroupController {
     private final MuscleGroupService muscleGroupService;
 
     @GetMapping
-    public ResponseEntity<List<MuscleGroup>> getAllMuscleGroups(){
+    public ResponseEntity<List<MuscleGroupDTO>> getAllMuscleGroups(){
         return ResponseEntity.ok(muscleGroupService.getAllMuscleGroups());
     }
 
     @GetMapping("/{muscleGroupId}")
-    public ResponseEntity<MuscleGroup> getMuscleGroupById(@RequestParam Long muscleGroupId){
+    public ResponseEntity<MuscleGroupDTO> getMuscleGroupById(@PathVariable Long muscleGroupId){
         return ResponseEntity.ok(muscleGroupService.getMuscleGroupById(muscleGroupId));
     }
 
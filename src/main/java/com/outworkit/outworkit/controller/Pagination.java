@@ -0,0 +1,48 @@
+package com.outworkit.outworkit.controller;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Shared handling of the keyset-paged collection endpoints.
+ * The body stays a plain JSON array so existing clients keep working; the cursor of the next page
+ * is sent in the {@code X-Next-Cursor} header and the header is absent on the last page.
+ */
+final class Pagination {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_LIMIT = 200;
+
+    private Pagination() {
+    }
+
+    static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    /**
+     * True for order=desc, false for order=asc
+     */
+    static boolean descending(String order) {
+        if ("asc".equalsIgnoreCase(order)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(order)) {
+            return true;
+        }
+        throw new BadRequestException("order must be asc or desc");
+    }
+
+    static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.SplitDTO;
 import com.outworkit.outworkit.entity.Split;
 import com.outworkit.outworkit.service.SplitService;
 import jakarta.validation.Valid;
@@ -20,33 +21,45 @@ public class SplitController {
     
     private final SplitService splitService;
 
+    /**
+     * List splits by id, one page at a time
+     * GET /api/v1/splits
+     * Query params:
+     *   - limit: page size (default: 50, max: 200)
+     *   - cursor: X-Next-Cursor header of the previous page
+     *   - order: asc or desc by id (default: asc)
+     * The cursor of the next page is returned in the X-Next-Cursor header, absent on the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<Split>> getAllSplits() {
-        log.info("Solicitando todos los splits");
-        List<Split> splits = splitService.getAllSplits();
-        return ResponseEntity.ok(splits);
+    public ResponseEntity<List<SplitDTO>> getAllSplits(
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order) {
+        log.info("Solicitando splits, cursor: {}", cursor);
+        Pagination.checkLimit(limit);
+        return Pagination.ok(splitService.getAllSplits(cursor, limit, Pagination.descending(order)));
     }
 
     @GetMapping("/{splitId}")
-    public ResponseEntity<Split> getSplitById(@PathVariable Long splitId) {
+    public ResponseEntity<SplitDTO> getSplitById(@PathVariable Long splitId) {
         log.info("Solicitando split con ID: {}", splitId);
-        Split split = splitService.getSplitById(splitId);
+        SplitDTO split = splitService.getSplitById(splitId);
         return ResponseEntity.ok(split);
     }
 
     @PostMapping
-    public ResponseEntity<Split> createSplit(@Valid @RequestBody Split split) {
+    public ResponseEntity<SplitDTO> createSplit(@Valid @RequestBody Split split) {
         // return 400 when the provided split is invalid
         if (!isValidSplit(split)) {
             log.warn("Provide valid split data");
             return ResponseEntity.badRequest().build();
         }
         Split savedSplit = splitService.saveOrUpdateSplit(split);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedSplit);
+        return ResponseEntity.status(HttpStatus.CREATED).body(SplitDTO.from(savedSplit));
     }
 
     @PutMapping("/{splitId}")
-    public ResponseEntity<Split> updateSplit(
+    public ResponseEntity<SplitDTO> updateSplit(
             @PathVariable Long splitId, 
             @Valid @RequestBody Split split) {
 
@@ -62,7 +75,7 @@ public class SplitController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         Split updatedSplit = splitService.saveOrUpdateSplit(split);
-        return ResponseEntity.ok(updatedSplit);
+        return ResponseEntity.ok(SplitDTO.from(updatedSplit));
     }
 
     @DeleteMapping("/{splitId}")
@@ -1,15 +1,24 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.ImportReportDTO;
+import com.outworkit.outworkit.dto.UserDTO;
+import com.outworkit.outworkit.dto.WorkoutImportRowDTO;
 import com.outworkit.outworkit.entity.User;
+import com.outworkit.outworkit.service.TrainingHistoryExportService;
 import com.outworkit.outworkit.service.UserService;
+import com.outworkit.outworkit.service.WorkoutImportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,34 +28,85 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final TrainingHistoryExportService trainingHistoryExportService;
+    private final WorkoutImportService workoutImportService;
 
+    /**
+     * List users by id, one page at a time
+     * GET /api/v1/users
+     * Query params:
+     *   - startDate, endDate: optional signup date filters (format: yyyy-MM-dd'T'HH:mm:ss)
+     *   - limit: page size (default: 50, max: 200)
+     *   - cursor: X-Next-Cursor header of the previous page
+     *   - order: asc or desc by id (default: asc)
+     * The cursor of the next page is returned in the X-Next-Cursor header, absent on the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        log.info("Solicitando todos los usuarios");
-        List<User> users = userService.getUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order) {
+        log.info("Solicitando usuarios, cursor: {}", cursor);
+        Pagination.checkLimit(limit);
+        return Pagination.ok(userService.getUsers(startDate, endDate, cursor, limit, Pagination.descending(order)));
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<User> getUserById(@PathVariable Long userId) {
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long userId) {
         log.info("Solicitando usuario con ID: {}", userId);
-        User user = userService.getUser(userId);
+        UserDTO user = userService.getUser(userId);
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * Stream the user's workouts, exercises and sets as newline-delimited JSON, one workout per line
+     */
+    @GetMapping(value = "/{userId}/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUserHistory(@PathVariable Long userId) {
+        log.info("Exportando historial del usuario con ID: {}", userId);
+        userService.getUser(userId);
+
+        StreamingResponseBody body = out -> trainingHistoryExportService.export(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"user-" + userId + "-history.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * Bulk import logged sets from CSV (header: date,exercise,set,reps,weight)
+     */
+    @PostMapping(value = "/{userId}/import", consumes = "text/csv")
+    public ResponseEntity<ImportReportDTO> importUserHistoryCsv(@PathVariable Long userId, @RequestBody String csv) {
+        log.info("Importando historial CSV para el usuario con ID: {}", userId);
+        return ResponseEntity.ok(workoutImportService.importCsv(userId, csv));
+    }
+
+    /**
+     * Bulk import logged sets from a JSON array of rows
+     */
+    @PostMapping(value = "/{userId}/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportReportDTO> importUserHistoryJson(@PathVariable Long userId,
+                                                                 @RequestBody List<WorkoutImportRowDTO> rows) {
+        log.info("Importando historial JSON para el usuario con ID: {}", userId);
+        return ResponseEntity.ok(workoutImportService.importRows(userId, rows));
+    }
+
     @PostMapping
-    public ResponseEntity<User> createUser(@Valid @RequestBody User user) {
+    public ResponseEntity<UserDTO> createUser(@Valid @RequestBody User user) {
         // return 400 when the provided user is invalid
         if (!isValidUser(user)) {
             log.warn("Provide valid user data");
             return ResponseEntity.badRequest().build();
         }
         User savedUser = userService.saveOrUpdate(user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(UserDTO.from(savedUser));
     }
 
     @PutMapping("/{userId}")
-    public ResponseEntity<User> updateUser(
+    public ResponseEntity<UserDTO> updateUser(
             @PathVariable Long userId,
             @Valid @RequestBody User user) {
 
@@ -62,7 +122,7 @@ public class UserController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         User updatedUser = userService.saveOrUpdate(user);
-        return ResponseEntity.ok(updatedUser);
+        return ResponseEntity.ok(UserDTO.from(updatedUser));
     }
 
     @DeleteMapping("/{userId}")
@@ -1,15 +1,21 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.WorkoutDTO;
+import com.outworkit.outworkit.dto.WorkoutSessionDTO;
+import com.outworkit.outworkit.dto.WorkoutSessionResultDTO;
 import com.outworkit.outworkit.entity.Workout;
 import com.outworkit.outworkit.service.WorkoutService;
+import com.outworkit.outworkit.service.WorkoutSessionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,34 +25,65 @@ import java.util.List;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final WorkoutSessionService workoutSessionService;
 
+    /**
+     * List workouts by id, one page at a time
+     * GET /api/v1/workouts
+     * Query params:
+     *   - userId, splitId: optional filters
+     *   - startDate, endDate: optional workout date filters (format: yyyy-MM-dd'T'HH:mm:ss)
+     *   - limit: page size (default: 50, max: 200)
+     *   - cursor: X-Next-Cursor header of the previous page
+     *   - order: asc or desc by id (default: asc)
+     * The cursor of the next page is returned in the X-Next-Cursor header, absent on the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<Workout>> getAllWorkouts() {
-        log.info("Solicitando todos los entrenamientos");
-        List<Workout> workouts = workoutService.getWorkouts();
-        return ResponseEntity.ok(workouts);
+    public ResponseEntity<List<WorkoutDTO>> getAllWorkouts(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long splitId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order) {
+        log.info("Solicitando entrenamientos, usuario: {}, split: {}, cursor: {}", userId, splitId, cursor);
+        Pagination.checkLimit(limit);
+        return Pagination.ok(workoutService.getWorkouts(userId, splitId, startDate, endDate,
+                cursor, limit, Pagination.descending(order)));
     }
 
     @GetMapping("/{workoutId}")
-    public ResponseEntity<Workout> getWorkoutById(@PathVariable Long workoutId) {
+    public ResponseEntity<WorkoutDTO> getWorkoutById(@PathVariable Long workoutId) {
         log.info("Solicitando entrenamiento con ID: {}", workoutId);
-        Workout workout = workoutService.getWorkout(workoutId);
+        WorkoutDTO workout = workoutService.getWorkout(workoutId);
         return ResponseEntity.ok(workout);
     }
 
     @PostMapping
-    public ResponseEntity<Workout> createWorkout(@Valid @RequestBody Workout workout) {
+    public ResponseEntity<WorkoutDTO> createWorkout(@Valid @RequestBody Workout workout) {
         // return 400 when the provided workout is invalid
         if (!isValidWorkout(workout)) {
             log.warn("Provide valid workout data");
             return ResponseEntity.badRequest().build();
         }
         Workout savedWorkout = workoutService.saveOrUpdate(workout);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedWorkout);
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutDTO.from(savedWorkout));
+    }
+
+    /**
+     * Create a workout with its exercises and sets in one request
+     * POST /api/v1/workouts/sessions
+     */
+    @PostMapping("/sessions")
+    public ResponseEntity<WorkoutSessionResultDTO> createWorkoutSession(@RequestBody WorkoutSessionDTO session) {
+        log.info("Registrando sesión de entrenamiento para el usuario: {}", session.getUserId());
+        WorkoutSessionResultDTO saved = workoutSessionService.create(session);
+        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
     @PutMapping("/{workoutId}")
-    public ResponseEntity<Workout> updateWorkout(
+    public ResponseEntity<WorkoutDTO> updateWorkout(
             @PathVariable Long workoutId,
             @Valid @RequestBody Workout workout) {
 
@@ -62,7 +99,7 @@ public class WorkoutController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         Workout updatedWorkout = workoutService.saveOrUpdate(workout);
-        return ResponseEntity.ok(updatedWorkout);
+        return ResponseEntity.ok(WorkoutDTO.from(updatedWorkout));
     }
 
     @DeleteMapping("/{workoutId}")
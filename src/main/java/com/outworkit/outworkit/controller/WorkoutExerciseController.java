@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.controller;
 
+import com.outworkit.outworkit.dto.WorkoutExerciseDTO;
 import com.outworkit.outworkit.entity.WorkoutExercise;
 import com.outworkit.outworkit.service.WorkoutExerciseService;
 import jakarta.validation.Valid;
@@ -20,33 +21,50 @@ public class WorkoutExerciseController {
 
     private final WorkoutExerciseService workoutExerciseService;
 
+    /**
+     * List workout exercises by id, one page at a time
+     * GET /api/v1/workout-exercises
+     * Query params:
+     *   - workoutId, exerciseId, userId: optional filters
+     *   - limit: page size (default: 50, max: 200)
+     *   - cursor: X-Next-Cursor header of the previous page
+     *   - order: asc or desc by id (default: asc)
+     * The cursor of the next page is returned in the X-Next-Cursor header, absent on the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<WorkoutExercise>> getAllWorkoutExercises() {
-        log.info("Solicitando todos los ejercicios de entrenamiento");
-        List<WorkoutExercise> workoutExercises = workoutExerciseService.getWorkoutExercises();
-        return ResponseEntity.ok(workoutExercises);
+    public ResponseEntity<List<WorkoutExerciseDTO>> getAllWorkoutExercises(
+            @RequestParam(required = false) Long workoutId,
+            @RequestParam(required = false) Long exerciseId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order) {
+        log.info("Solicitando ejercicios de entrenamiento, cursor: {}", cursor);
+        Pagination.checkLimit(limit);
+        return Pagination.ok(workoutExerciseService.getWorkoutExercises(workoutId, exerciseId, userId,
+                cursor, limit, Pagination.descending(order)));
     }
 
     @GetMapping("/{workoutExerciseId}")
-    public ResponseEntity<WorkoutExercise> getWorkoutExerciseById(@PathVariable Long workoutExerciseId) {
+    public ResponseEntity<WorkoutExerciseDTO> getWorkoutExerciseById(@PathVariable Long workoutExerciseId) {
         log.info("Solicitando ejercicio de entrenamiento con ID: {}", workoutExerciseId);
-        WorkoutExercise workoutExercise = workoutExerciseService.getWorkoutExercise(workoutExerciseId);
+        WorkoutExerciseDTO workoutExercise = workoutExerciseService.getWorkoutExercise(workoutExerciseId);
         return ResponseEntity.ok(workoutExercise);
     }
 
     @PostMapping
-    public ResponseEntity<WorkoutExercise> createWorkoutExercise(@Valid @RequestBody WorkoutExercise workoutExercise) {
+    public ResponseEntity<WorkoutExerciseDTO> createWorkoutExercise(@Valid @RequestBody WorkoutExercise workoutExercise) {
         // return 400 when the provided workout exercise is invalid
         if (!isValidWorkoutExercise(workoutExercise)) {
             log.warn("Provide valid workout exercise data");
             return ResponseEntity.badRequest().build();
         }
         WorkoutExercise savedWorkoutExercise = workoutExerciseService.saveOrUpdate(workoutExercise);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedWorkoutExercise);
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutExerciseDTO.from(savedWorkoutExercise));
     }
 
     @PutMapping("/{workoutExerciseId}")
-    public ResponseEntity<WorkoutExercise> updateWorkoutExercise(
+    public ResponseEntity<WorkoutExerciseDTO> updateWorkoutExercise(
             @PathVariable Long workoutExerciseId,
             @Valid @RequestBody WorkoutExercise workoutExercise) {
 
@@ -62,7 +80,7 @@ public class WorkoutExerciseController {
 
         // Delegate further validation/error handling to the service and global exception handler.
         WorkoutExercise updatedWorkoutExercise = workoutExerciseService.saveOrUpdate(workoutExercise);
-        return ResponseEntity.ok(updatedWorkoutExercise);
+        return ResponseEntity.ok(WorkoutExerciseDTO.from(updatedWorkoutExercise));
     }
 
     @DeleteMapping("/{workoutExerciseId}")
@@ -0,0 +1,26 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the training-day heatmap of a user
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityHeatmapDTO {
+    private Long userId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer activeDays; // days with at least one workout in the window
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private List<LocalDate> activeDates;
+}
@@ -0,0 +1,25 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing the in-memory reference catalog snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogStatsDTO {
+    private Integer exercises;
+    private Integer equipment;
+    private Integer muscleGroups;
+    private Integer muscles;
+    private Integer splits;
+    private Integer searchTerms;
+    private LocalDateTime loadedAt;
+}
@@ -0,0 +1,47 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for population-level training metrics of users grouped by signup month
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CohortReportDTO {
+    private Integer weeks;
+    private Integer users;
+    private Integer usersWithoutCohort; // users with no signup date
+    private Integer partitions;
+    private Long elapsedMillis;
+    private List<Cohort> cohorts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cohort {
+        private String cohort; // yyyy-MM
+        private Integer users;
+        private Double totalVolume;
+        private List<WeekVolume> weeklyVolume;
+        private Map<String, Double> muscleGroupVolume;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeekVolume {
+        private Integer week; // weeks since signup, from 0
+        private Integer users; // cohort users whose week had started
+        private Double averageVolume;
+    }
+}
@@ -0,0 +1,28 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.Equipment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a piece of equipment without its exercises
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentDTO {
+    private Long id;
+    private String name;
+    private String description;
+
+    public static EquipmentDTO from(Equipment equipment) {
+        return EquipmentDTO.builder()
+                .id(equipment.getId())
+                .name(equipment.getName())
+                .description(equipment.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.Exercise;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an exercise; equipment and muscle group are referenced by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseDTO {
+    private Long id;
+    private String name;
+    private Long equipmentId;
+    private Long muscleGroupId;
+
+    public static ExerciseDTO from(Exercise exercise) {
+        return ExerciseDTO.builder()
+                .id(exercise.getId())
+                .name(exercise.getName())
+                .equipmentId(exercise.getEquipment() != null ?
+                        exercise.getEquipment().getId() : null)
+                .muscleGroupId(exercise.getMuscleGroup() != null ?
+                        exercise.getMuscleGroup().getId() : null)
+                .build();
+    }
+}
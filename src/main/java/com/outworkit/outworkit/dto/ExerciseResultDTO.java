@@ -0,0 +1,33 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.ExerciseResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one set; its workout exercise is referenced by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseResultDTO {
+    private Long id;
+    private Long workoutExerciseId;
+    private Integer setNumber;
+    private Integer reps;
+    private Double weight;
+
+    public static ExerciseResultDTO from(ExerciseResult exerciseResult) {
+        return ExerciseResultDTO.builder()
+                .id(exerciseResult.getId())
+                .workoutExerciseId(exerciseResult.getWorkoutExercise() != null ?
+                        exerciseResult.getWorkoutExercise().getId() : null)
+                .setNumber(exerciseResult.getSetNumber())
+                .reps(exerciseResult.getReps())
+                .weight(exerciseResult.getWeight())
+                .build();
+    }
+}
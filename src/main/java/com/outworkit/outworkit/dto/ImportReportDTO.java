@@ -0,0 +1,35 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk workout import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDTO {
+    private Long userId;
+    private Integer rowsRead;
+    private Integer workoutsImported;
+    private Integer exercisesImported;
+    private Integer setsImported;
+    private Long elapsedMillis;
+    private Double setsPerSecond;
+    private List<RowError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer row; // 1-based, header excluded
+        private String message;
+    }
+}
@@ -0,0 +1,35 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of an exercise leaderboard, ranked by estimated 1RM
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardPageDTO {
+    private Long exerciseId;
+    private String exerciseName;
+    private Integer totalLifters;
+    private Integer page;
+    private Integer size;
+    private List<Entry> entries;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Integer rank; // competition rank: tied lifters share a rank
+        private Long userId;
+        private String userName;
+        private Double oneRepMax;
+    }
+}
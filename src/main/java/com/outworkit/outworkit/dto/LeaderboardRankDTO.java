@@ -0,0 +1,21 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one user's position on an exercise leaderboard
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardRankDTO {
+    private Long exerciseId;
+    private Long userId;
+    private Integer rank;
+    private Integer totalLifters;
+    private Double oneRepMax;
+}
@@ -0,0 +1,22 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the percentile of a 1RM among all lifters of an exercise
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiftPercentileDTO {
+    private Long exerciseId;
+    private Long userId;
+    private Double oneRepMax;
+    private Long lifters;
+    private Double percentile; // share of lifters below, counting ties as half, 0-100
+    private Double errorBound; // the exact percentile is within percentile ± errorBound
+}
@@ -0,0 +1,29 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.Muscle;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a muscle; its group is referenced by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MuscleDTO {
+    private Long id;
+    private String name;
+    private Long muscleGroupId;
+
+    public static MuscleDTO from(Muscle muscle) {
+        return MuscleDTO.builder()
+                .id(muscle.getId())
+                .name(muscle.getName())
+                .muscleGroupId(muscle.getMuscleGroup() != null ?
+                        muscle.getMuscleGroup().getId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.MuscleGroup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a muscle group without its muscles and exercises
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MuscleGroupDTO {
+    private Long id;
+    private String name;
+
+    public static MuscleGroupDTO from(MuscleGroup muscleGroup) {
+        return MuscleGroupDTO.builder()
+                .id(muscleGroup.getId())
+                .name(muscleGroup.getName())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO comparing the materialized personal records of a user against a full rescan
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecordConsistencyDTO {
+    private Long userId;
+    private Boolean consistent;
+    private Integer storedRecords;
+    private Integer rescannedRecords;
+    private List<Long> mismatchedExerciseIds; // missing, stale or extra rows
+}
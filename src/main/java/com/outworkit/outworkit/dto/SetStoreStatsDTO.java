@@ -0,0 +1,33 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO describing the heap used by the in-memory set history store
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetStoreStatsDTO {
+    private Boolean enabled;
+    private Integer users;
+    private Long totalBytes;
+    private Long budgetBytes;
+    private Long evictions;
+    private Map<Long, UserFootprint> perUser;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserFootprint {
+        private Integer sets;
+        private Long bytes;
+    }
+}
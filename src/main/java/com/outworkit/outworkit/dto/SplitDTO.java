@@ -0,0 +1,28 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.Split;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a split without its workouts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SplitDTO {
+    private Long id;
+    private String name;
+    private String description;
+
+    public static SplitDTO from(Split split) {
+        return SplitDTO.builder()
+                .id(split.getId())
+                .name(split.getName())
+                .description(split.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a user; the password and the workouts collection are never serialized
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDTO {
+    private Long id;
+    private String userName;
+    private String email;
+    private String role;
+    private LocalDateTime createdAt;
+
+    public static UserDTO from(User user) {
+        return UserDTO.builder()
+                .id(user.getId())
+                .userName(user.getUserName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
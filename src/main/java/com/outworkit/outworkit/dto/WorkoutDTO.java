@@ -0,0 +1,32 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.Workout;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a workout; user and split are referenced by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutDTO {
+    private Long id;
+    private LocalDateTime createdAt;
+    private Long userId;
+    private Long splitId;
+
+    public static WorkoutDTO from(Workout workout) {
+        return WorkoutDTO.builder()
+                .id(workout.getId())
+                .createdAt(workout.getCreatedAt())
+                .userId(workout.getUser() != null ? workout.getUser().getId() : null)
+                .splitId(workout.getSplit() != null ? workout.getSplit().getId() : null)
+                .build();
+    }
+}
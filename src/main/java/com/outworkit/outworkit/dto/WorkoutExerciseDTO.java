@@ -0,0 +1,30 @@
+package com.outworkit.outworkit.dto;
+
+import com.outworkit.outworkit.entity.WorkoutExercise;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an exercise of a workout; workout and exercise are referenced by id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutExerciseDTO {
+    private Long id;
+    private Long workoutId;
+    private Long exerciseId;
+
+    public static WorkoutExerciseDTO from(WorkoutExercise workoutExercise) {
+        return WorkoutExerciseDTO.builder()
+                .id(workoutExercise.getId())
+                .workoutId(workoutExercise.getWorkout() != null ?
+                        workoutExercise.getWorkout().getId() : null)
+                .exerciseId(workoutExercise.getExercise() != null ?
+                        workoutExercise.getExercise().getId() : null)
+                .build();
+    }
+}
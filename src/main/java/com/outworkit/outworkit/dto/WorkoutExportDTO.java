@@ -0,0 +1,45 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for one workout line of a training history export
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutExportDTO {
+    private Long workoutId;
+    private LocalDateTime createdAt;
+    private String splitName;
+    private List<ExerciseEntry> exercises;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseEntry {
+        private Long workoutExerciseId;
+        private Long exerciseId;
+        private String exerciseName;
+        private List<SetEntry> sets;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SetEntry {
+        private Long resultId;
+        private Integer setNumber;
+        private Integer reps;
+        private Double weight;
+    }
+}
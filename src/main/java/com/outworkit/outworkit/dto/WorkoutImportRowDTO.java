@@ -0,0 +1,21 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one logged set of a bulk import; sets sharing a date form one workout
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutImportRowDTO {
+    private String date; // yyyy-MM-dd'T'HH:mm:ss or yyyy-MM-dd
+    private String exercise; // exercise name, matched case-insensitively
+    private Integer setNumber; // optional, defaults to the set's position within the exercise
+    private Integer reps;
+    private Double weight;
+}
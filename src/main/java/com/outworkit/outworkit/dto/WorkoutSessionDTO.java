@@ -0,0 +1,42 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a whole workout session, with its exercises and sets, created in one request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionDTO {
+    private Long userId;
+    private Long splitId; // optional
+    private LocalDateTime createdAt; // optional, defaults to now
+    private List<ExerciseEntry> exercises;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseEntry {
+        private Long exerciseId;
+        private List<SetEntry> sets;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SetEntry {
+        private Integer setNumber; // optional, defaults to the set's position within the exercise
+        private Integer reps;
+        private Double weight;
+    }
+}
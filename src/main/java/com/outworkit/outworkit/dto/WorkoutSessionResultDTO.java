@@ -0,0 +1,32 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the ids assigned to a created workout session, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSessionResultDTO {
+    private Long workoutId;
+    private LocalDateTime createdAt;
+    private List<ExerciseIds> exercises;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseIds {
+        private Long workoutExerciseId;
+        private Long exerciseId;
+        private List<Long> resultIds;
+    }
+}
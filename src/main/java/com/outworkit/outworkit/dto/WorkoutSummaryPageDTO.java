@@ -0,0 +1,20 @@
+package com.outworkit.outworkit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of workout summaries, newest first
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSummaryPageDTO {
+    private List<WorkoutSummaryDTO> summaries;
+    private String nextCursor; // pass back as "cursor" to get the next page; null on the last page
+}
@@ -0,0 +1,34 @@
+package com.outworkit.outworkit.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated training of one user, on one calendar day, for one exercise.
+ */
+@Entity
+@Table(name = "tbl_daily_exercise_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "training_day", "exercise_id"}))
+@Data
+public class DailyExerciseRollup {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "training_day", nullable = false)
+    private LocalDate trainingDay;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    private int setCount;
+    private int repCount;
+    private double volume;
+    private double maxWeight;
+    private double bestOneRepMax;
+}
@@ -1,9 +1,11 @@
 package com.outworkit.outworkit.entity;
 
+import com.outworkit.outworkit.metrics.EntityVisits;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
+@EntityListeners(EntityVisits.class)
 @Table(name = "tbl_exercise_results")
 @Data
 public class ExerciseResult {
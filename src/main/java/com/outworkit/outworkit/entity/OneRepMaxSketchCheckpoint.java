@@ -0,0 +1,28 @@
+package com.outworkit.outworkit.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last checkpoint of the 1RM quantile sketch of one exercise, merged from every app instance.
+ */
+@Entity
+@Table(name = "tbl_one_rep_max_sketches")
+@Data
+public class OneRepMaxSketchCheckpoint {
+    @Id
+    @Column(name = "exercise_id")
+    private Long exerciseId;
+
+    @Lob
+    @Column(nullable = false, length = 65536)
+    private byte[] buckets;
+
+    private long lifters;
+    private LocalDateTime updatedAt;
+
+    // When the sketch was last rebuilt from the personal records table; null if it was only ever merged into
+    private LocalDateTime rebuiltAt;
+}
@@ -0,0 +1,51 @@
+package com.outworkit.outworkit.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized best set per (user, exercise), maintained on every result write.
+ */
+@Entity
+@Table(name = "tbl_personal_records",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "exercise_id"}),
+        indexes = {@Index(columnList = "exercise_result_id"), @Index(columnList = "best_one_rep_max_result_id")})
+@Data
+public class PersonalRecord {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    private double maxWeight;
+    private int repsAtMaxWeight;
+    private double oneRepMax;
+
+    @Column(name = "workout_id")
+    private Long workoutId;
+
+    @Column(name = "exercise_result_id")
+    private Long exerciseResultId;
+
+    private LocalDateTime achievedDate;
+
+    // Best estimated 1RM over all sets, which need not be the heaviest one; null on records saved before it was tracked
+    private Double bestOneRepMax;
+
+    @Column(name = "best_one_rep_max_result_id")
+    private Long bestOneRepMaxResultId;
+
+    /**
+     * What leaderboards and percentiles rank by, falling back to the heaviest set's 1RM until the best one is known
+     */
+    public double getScore() {
+        return bestOneRepMax != null ? bestOneRepMax : oneRepMax;
+    }
+}
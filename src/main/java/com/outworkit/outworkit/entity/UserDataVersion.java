@@ -0,0 +1,19 @@
+package com.outworkit.outworkit.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Per-user counter bumped in the same transaction as every write to the user's training data.
+ */
+@Entity
+@Table(name = "tbl_user_data_versions")
+@Data
+public class UserDataVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+}
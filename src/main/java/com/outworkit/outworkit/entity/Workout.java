@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.entity;
 
+import com.outworkit.outworkit.metrics.EntityVisits;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,7 +8,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tbl_workouts")
+@EntityListeners(EntityVisits.class)
+@Table(name = "tbl_workouts", indexes = @Index(columnList = "user_id, created_at"))
 @Data
 public class Workout {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
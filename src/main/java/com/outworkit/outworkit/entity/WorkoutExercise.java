@@ -1,5 +1,6 @@
 package com.outworkit.outworkit.entity;
 
+import com.outworkit.outworkit.metrics.EntityVisits;
 import jakarta.persistence.*;
 import lombok.Data;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityVisits.class)
 @Table(name = "tbl_workout_exercise")
 @Data
 public class WorkoutExercise {
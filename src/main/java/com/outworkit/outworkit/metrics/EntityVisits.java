@@ -0,0 +1,103 @@
+package com.outworkit.outworkit.metrics;
+
+import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.entity.Workout;
+import com.outworkit.outworkit.entity.WorkoutExercise;
+import jakarta.persistence.PostLoad;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts the workouts, workout exercises and sets read while serving a request, for {@link RequestMetricsFilter}.
+ * Entities are counted as Hibernate loads them, through this JPA listener; code reading the same rows
+ * as projections adds them itself. Counts belong to the request thread, and tasks handed to another
+ * thread take them along with {@link #propagate}.
+ */
+public class EntityVisits {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public static final class Counts {
+        private final LongAdder workouts = new LongAdder();
+        private final LongAdder workoutExercises = new LongAdder();
+        private final LongAdder results = new LongAdder();
+
+        public long workouts() {
+            return workouts.sum();
+        }
+
+        public long workoutExercises() {
+            return workoutExercises.sum();
+        }
+
+        public long results() {
+            return results.sum();
+        }
+    }
+
+    static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static void workouts(long count) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.workouts.add(count);
+        }
+    }
+
+    public static void workoutExercises(long count) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.workoutExercises.add(count);
+        }
+    }
+
+    public static void results(long count) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.results.add(count);
+        }
+    }
+
+    /**
+     * Run the task with the counts of the calling thread, e.g. on an executor
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            Counts previous = CURRENT.get();
+            CURRENT.set(counts);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    @PostLoad
+    void onLoad(Object entity) {
+        if (entity instanceof Workout) {
+            workouts(1);
+        } else if (entity instanceof WorkoutExercise) {
+            workoutExercises(1);
+        } else if (entity instanceof ExerciseResult) {
+            results(1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.outworkit.outworkit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes how many workouts, workout exercises and sets each API request read as the
+ * {@code outworkit.request.visited} distribution summary, tagged by endpoint (URI template), method and entity.
+ * Users are not a tag, since they are unbounded; requests slower than
+ * {@code outworkit.metrics.slow-request-threshold} are logged with their user id and counts instead.
+ * Registered for {@code /api/*} by {@link MetricsConfiguration}.
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowRequestThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThreshold = slowRequestThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EntityVisits.Counts counts = EntityVisits.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            EntityVisits.end();
+            record(request, counts, System.nanoTime() - start);
+        }
+    }
+
+    private void record(HttpServletRequest request, EntityVisits.Counts counts, long elapsedNanos) {
+        // Set by the handler mapping; absent for requests that matched no controller
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (!(pattern instanceof String endpoint)) {
+            return;
+        }
+        visited(endpoint, request.getMethod(), "workouts").record(counts.workouts());
+        visited(endpoint, request.getMethod(), "workout_exercises").record(counts.workoutExercises());
+        visited(endpoint, request.getMethod(), "results").record(counts.results());
+
+        if (elapsedNanos > slowRequestThreshold.toNanos()) {
+            Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            Object userId = variables instanceof Map<?, ?> map ? map.get("userId") : null;
+            log.warn("Slow request {} {} took {} ms for user {}: {} workouts, {} workout exercises, {} sets read",
+                    request.getMethod(), endpoint, elapsedNanos / 1_000_000, userId,
+                    counts.workouts(), counts.workoutExercises(), counts.results());
+        }
+    }
+
+    private DistributionSummary visited(String endpoint, String method, String entity) {
+        return DistributionSummary.builder("outworkit.request.visited")
+                .baseUnit("rows")
+                .tags("endpoint", endpoint, "method", method, "entity", entity)
+                .register(meterRegistry);
+    }
+}
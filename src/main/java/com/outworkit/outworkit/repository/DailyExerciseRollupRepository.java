@@ -0,0 +1,68 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.DailyExerciseRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyExerciseRollupRepository extends JpaRepository<DailyExerciseRollup, Long> {
+
+    @Query("select d from DailyExerciseRollup d where d.userId = :userId " +
+            "and (:startDay is null or d.trainingDay >= :startDay) " +
+            "and (:endDay is null or d.trainingDay <= :endDay) " +
+            "order by d.trainingDay")
+    List<DailyExerciseRollup> findByUserIdBetween(@Param("userId") Long userId,
+                                                  @Param("startDay") LocalDate startDay,
+                                                  @Param("endDay") LocalDate endDay);
+
+    @Query("select new com.outworkit.outworkit.repository.RollupRowView(d.userId, d.trainingDay, d.exercise.id, d.volume) " +
+            "from DailyExerciseRollup d where d.userId between :fromId and :toId")
+    List<RollupRowView> findRowsByUserIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("delete from DailyExerciseRollup d where d.userId = :userId and d.trainingDay = :day")
+    void deleteByUserIdAndDay(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    @Modifying
+    @Query("delete from DailyExerciseRollup d where d.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    String VOLUME_BUCKET_SELECT = "select min(d.trainingDay) as periodStart, sum(d.setCount) as setCount, " +
+            "sum(d.repCount) as repCount, sum(d.volume) as totalVolume " +
+            "from DailyExerciseRollup d where d.userId = :userId " +
+            "and (:startDay is null or d.trainingDay >= :startDay) " +
+            "and (:endDay is null or d.trainingDay <= :endDay) ";
+
+    @Query(VOLUME_BUCKET_SELECT + "group by d.trainingDay order by periodStart")
+    List<VolumeBucketView> sumVolumeByDay(@Param("userId") Long userId,
+                                          @Param("startDay") LocalDate startDay,
+                                          @Param("endDay") LocalDate endDay);
+
+    /**
+     * Grouped by the Monday starting each ISO week, so a week spanning new year is one row.
+     * Day of week counts from 1 on Sunday, so Monday is 0 days back and Sunday 6.
+     */
+    @Query(VOLUME_BUCKET_SELECT +
+            "group by d.trainingDay - (mod(extract(day of week from d.trainingDay) + 5, 7)) day order by periodStart")
+    List<VolumeBucketView> sumVolumeByWeek(@Param("userId") Long userId,
+                                           @Param("startDay") LocalDate startDay,
+                                           @Param("endDay") LocalDate endDay);
+
+    @Query(VOLUME_BUCKET_SELECT +
+            "group by extract(year from d.trainingDay), extract(month from d.trainingDay) order by periodStart")
+    List<VolumeBucketView> sumVolumeByMonth(@Param("userId") Long userId,
+                                            @Param("startDay") LocalDate startDay,
+                                            @Param("endDay") LocalDate endDay);
+
+    @Query(VOLUME_BUCKET_SELECT +
+            "group by extract(year from d.trainingDay) order by periodStart")
+    List<VolumeBucketView> sumVolumeByYear(@Param("userId") Long userId,
+                                           @Param("startDay") LocalDate startDay,
+                                           @Param("endDay") LocalDate endDay);
+}
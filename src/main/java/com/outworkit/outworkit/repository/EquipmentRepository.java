@@ -1,7 +1,10 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.EquipmentDTO;
 import com.outworkit.outworkit.entity.Equipment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +13,12 @@ import java.util.Optional;
 @Repository
 public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
     Optional<Equipment> findByNameIgnoreCase(String name);
-    List<Equipment> findByNameContainingIgnoreCase(String name);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.EquipmentDTO(x.id, x.name, x.description) from Equipment x ";
+
+    @Query(DTO_SELECT + "order by x.id")
+    List<EquipmentDTO> findAllDtos();
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<EquipmentDTO> findDtoById(@Param("id") Long id);
 }
@@ -1,12 +1,23 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.ExerciseDTO;
 import com.outworkit.outworkit.entity.Exercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
     Optional<Exercise> findByNameIgnoreCase(String name);
-    List<Exercise> findByNameContainingIgnoreCase(String name);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.ExerciseDTO(x.id, x.name, x.equipment.id, x.muscleGroup.id) " +
+            "from Exercise x ";
+
+    @Query(DTO_SELECT + "order by x.id")
+    List<ExerciseDTO> findAllDtos();
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<ExerciseDTO> findDtoById(@Param("id") Long id);
 }
@@ -1,10 +1,82 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.ExerciseResultDTO;
 import com.outworkit.outworkit.entity.ExerciseResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ExerciseResultRepository extends JpaRepository<ExerciseResult, Long> {
+
+    /**
+     * Heaviest sets of a user for one exercise, earliest first on ties.
+     */
+    @Query("select r from ExerciseResult r join fetch r.workoutExercise we join fetch we.workout w " +
+            "where w.user.id = :userId and we.exercise.id = :exerciseId " +
+            "order by r.weight desc, w.createdAt asc, r.id asc")
+    List<ExerciseResult> findHeaviestForUserAndExercise(@Param("userId") Long userId,
+                                                        @Param("exerciseId") Long exerciseId,
+                                                        Pageable pageable);
+
+    /**
+     * Sets of a user for one exercise by estimated 1RM as {@code AnalyticsService.calculateOneRepMax} computes it,
+     * strongest first and earliest first on ties.
+     */
+    @Query("select r from ExerciseResult r join fetch r.workoutExercise we join fetch we.workout w " +
+            "where w.user.id = :userId and we.exercise.id = :exerciseId " +
+            "order by case when r.reps = 1 then r.weight else r.weight * (1 + r.reps / 30.0) end desc, " +
+            "w.createdAt asc, r.id asc")
+    List<ExerciseResult> findStrongestForUserAndExercise(@Param("userId") Long userId,
+                                                         @Param("exerciseId") Long exerciseId,
+                                                         Pageable pageable);
+
+    @Query("select coalesce(mg.name, 'Unknown') as muscleGroupName, count(r.id) as setCount, " +
+            "sum(r.weight * r.reps) as totalVolume, max(w.createdAt) as lastWorked " +
+            "from ExerciseResult r join r.workoutExercise we join we.workout w " +
+            "join we.exercise e left join e.muscleGroup mg " +
+            "where w.user.id = :userId and w.createdAt is not null group by mg.name")
+    List<MuscleGroupTotalsView> sumByMuscleGroup(@Param("userId") Long userId);
+
+    String SET_ROW_SELECT = "select new com.outworkit.outworkit.repository.SetRowView(" +
+            "r.id, w.id, we.id, w.createdAt, we.exercise.id, r.weight, r.reps) " +
+            "from ExerciseResult r join r.workoutExercise we join we.workout w ";
+
+    /**
+     * Flat set rows of a user in [from, to), ordered by time; either bound may be null
+     */
+    @Query(SET_ROW_SELECT +
+            "where w.user.id = :userId " +
+            "and (:from is null or w.createdAt >= :from) " +
+            "and (:to is null or w.createdAt < :to) " +
+            "order by w.createdAt, w.id, we.id, r.id")
+    List<SetRowView> findSetRows(@Param("userId") Long userId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.ExerciseResultDTO(x.id, we.id, x.setNumber, x.reps, x.weight) " +
+            "from ExerciseResult x left join x.workoutExercise we left join we.workout w ";
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<ExerciseResultDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT +
+            "where (:workoutExerciseId is null or we.id = :workoutExerciseId) " +
+            "and (:exerciseId is null or we.exercise.id = :exerciseId) " +
+            "and (:userId is null or w.user.id = :userId) " +
+            "and (:startDate is null or w.createdAt >= :startDate) " +
+            "and (:endDate is null or w.createdAt <= :endDate) " +
+            "and " + IdKeyset.AFTER_ID)
+    List<ExerciseResultDTO> findPage(@Param("workoutExerciseId") Long workoutExerciseId,
+                                  @Param("exerciseId") Long exerciseId,
+                                  @Param("userId") Long userId,
+                                  @Param("startDate") LocalDateTime startDate,
+                                  @Param("endDate") LocalDateTime endDate,
+                                  @Param("afterId") Long afterId,
+                                  @Param("descending") boolean descending,
+                                  Pageable pageable);
 }
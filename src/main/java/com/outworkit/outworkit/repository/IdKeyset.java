@@ -0,0 +1,14 @@
+package com.outworkit.outworkit.repository;
+
+/**
+ * Keyset condition shared by the paged collection queries. Queries alias their entity as {@code x},
+ * bind {@code :afterId} (null for the first page) and {@code :descending}, and sort by id the same way.
+ */
+public final class IdKeyset {
+
+    public static final String AFTER_ID = "(:afterId is null or (:descending = false and x.id > :afterId) " +
+            "or (:descending = true and x.id < :afterId))";
+
+    private IdKeyset() {
+    }
+}
@@ -1,9 +1,24 @@
 package com.outworkit.outworkit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.outworkit.outworkit.dto.MuscleGroupDTO;
 import com.outworkit.outworkit.entity.MuscleGroup;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface MuscleGroupRepository extends JpaRepository<MuscleGroup, Long>{}
+public interface MuscleGroupRepository extends JpaRepository<MuscleGroup, Long>{
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.MuscleGroupDTO(x.id, x.name) from MuscleGroup x ";
+
+    @Query(DTO_SELECT + "order by x.id")
+    List<MuscleGroupDTO> findAllDtos();
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<MuscleGroupDTO> findDtoById(@Param("id") Long id);
+}
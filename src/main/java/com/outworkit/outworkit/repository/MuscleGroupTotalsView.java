@@ -0,0 +1,13 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's set count, volume and last training date for one muscle group
+ */
+public interface MuscleGroupTotalsView {
+    String getMuscleGroupName();
+    Long getSetCount();
+    Double getTotalVolume();
+    LocalDateTime getLastWorked();
+}
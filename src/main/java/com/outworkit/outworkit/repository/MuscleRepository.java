@@ -1,9 +1,23 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.MuscleDTO;
 import com.outworkit.outworkit.entity.Muscle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface MuscleRepository extends JpaRepository<Muscle, Long>{
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.MuscleDTO(x.id, x.name, x.muscleGroup.id) from Muscle x ";
+
+    @Query(DTO_SELECT + "order by x.id")
+    List<MuscleDTO> findAllDtos();
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<MuscleDTO> findDtoById(@Param("id") Long id);
 }
@@ -0,0 +1,19 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.OneRepMaxSketchCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OneRepMaxSketchCheckpointRepository extends JpaRepository<OneRepMaxSketchCheckpoint, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OneRepMaxSketchCheckpoint s where s.exerciseId = :exerciseId")
+    Optional<OneRepMaxSketchCheckpoint> findForUpdate(@Param("exerciseId") Long exerciseId);
+}
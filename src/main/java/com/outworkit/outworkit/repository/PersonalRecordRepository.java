@@ -0,0 +1,48 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.PersonalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, Long> {
+
+    @Query("select pr from PersonalRecord pr join fetch pr.exercise where pr.userId = :userId")
+    List<PersonalRecord> findByUserId(@Param("userId") Long userId);
+
+    @Query("select pr from PersonalRecord pr join fetch pr.exercise where pr.userId = :userId and pr.exercise.id = :exerciseId")
+    Optional<PersonalRecord> findByUserIdAndExerciseId(@Param("userId") Long userId, @Param("exerciseId") Long exerciseId);
+
+    @Query("select pr.userId as userId, pr.exercise.id as exerciseId, " +
+            "coalesce(pr.bestOneRepMax, pr.oneRepMax) as oneRepMax from PersonalRecord pr")
+    List<RecordScoreView> findAllScores();
+
+    /**
+     * The record a set holds, as the heaviest set or as the best estimated 1RM
+     */
+    @Query("select pr from PersonalRecord pr join fetch pr.exercise " +
+            "where pr.exerciseResultId = :resultId or pr.bestOneRepMaxResultId = :resultId")
+    Optional<PersonalRecord> findHeldByResultId(@Param("resultId") Long resultId);
+
+    /**
+     * Records held by any set of a workout, as the heaviest set or as the best estimated 1RM
+     */
+    @Query("select pr from PersonalRecord pr join fetch pr.exercise where pr.workoutId = :workoutId " +
+            "or pr.bestOneRepMaxResultId in (select r.id from ExerciseResult r where r.workoutExercise.workout.id = :workoutId)")
+    List<PersonalRecord> findHeldByWorkoutId(@Param("workoutId") Long workoutId);
+
+    List<PersonalRecord> findByWorkoutId(Long workoutId);
+
+    List<PersonalRecord> findByUserIdAndWorkoutIdIn(Long userId, Collection<Long> workoutIds);
+
+    @Modifying
+    @Query("delete from PersonalRecord pr where pr.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
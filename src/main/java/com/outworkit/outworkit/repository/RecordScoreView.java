@@ -0,0 +1,10 @@
+package com.outworkit.outworkit.repository;
+
+/**
+ * Projection of one user's estimated 1RM record for one exercise
+ */
+public interface RecordScoreView {
+    Long getUserId();
+    Long getExerciseId();
+    Double getOneRepMax();
+}
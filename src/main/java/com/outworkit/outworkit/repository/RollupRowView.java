@@ -0,0 +1,16 @@
+package com.outworkit.outworkit.repository;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Volume of one user, on one day, for one exercise, as read by population-wide scans
+ */
+@Value
+public class RollupRowView {
+    Long userId;
+    LocalDate trainingDay;
+    Long exerciseId;
+    double volume;
+}
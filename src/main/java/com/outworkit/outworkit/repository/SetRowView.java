@@ -0,0 +1,21 @@
+package com.outworkit.outworkit.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single logged set with just the columns analytics need.
+ * A constructor-expression class rather than an interface projection: it is read by the
+ * tens of thousands in history scans, where proxy-backed getters dominate the cost.
+ */
+@Value
+public class SetRowView {
+    Long resultId;
+    Long workoutId;
+    Long workoutExerciseId;
+    LocalDateTime performedAt;
+    Long exerciseId;
+    Double weight;
+    Integer reps;
+}
@@ -1,10 +1,24 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.SplitDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.outworkit.outworkit.entity.Split;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface SplitRepository extends JpaRepository<Split, Long>{
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.SplitDTO(x.id, x.name, x.description) from Split x ";
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<SplitDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT + "order by x.id")
+    List<SplitDTO> findAllDtos();
 }
@@ -0,0 +1,11 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's id and signup date
+ */
+public interface UserCohortView {
+    Long getId();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,25 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.UserDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserDataVersionRepository extends JpaRepository<UserDataVersion, Long> {
+
+    @Query("select v.dataVersion from UserDataVersion v where v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    /**
+     * Increment the user's counter, creating it at 1 on their first write
+     */
+    @Modifying
+    @Query(value = "insert into tbl_user_data_versions (user_id, data_version) values (:userId, 1) " +
+            "on duplicate key update data_version = data_version + 1", nativeQuery = true)
+    void increment(@Param("userId") Long userId);
+}
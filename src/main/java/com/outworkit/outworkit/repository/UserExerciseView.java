@@ -0,0 +1,9 @@
+package com.outworkit.outworkit.repository;
+
+/**
+ * Projection of a user and an exercise they trained
+ */
+public interface UserExerciseView {
+    Long getUserId();
+    Long getExerciseId();
+}
@@ -1,9 +1,39 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.UserDTO;
 import com.outworkit.outworkit.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>{
+
+    @Query("select u.id from User u order by u.id")
+    List<Long> findAllIds();
+
+    @Query("select u.id as id, u.createdAt as createdAt from User u where u.id between :fromId and :toId")
+    List<UserCohortView> findCohortsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.UserDTO(x.id, x.userName, x.email, x.role, x.createdAt) " +
+            "from User x ";
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<UserDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT +
+            "where (:startDate is null or x.createdAt >= :startDate) " +
+            "and (:endDate is null or x.createdAt <= :endDate) " +
+            "and " + IdKeyset.AFTER_ID)
+    List<UserDTO> findPage(@Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
+                        @Param("afterId") Long afterId,
+                        @Param("descending") boolean descending,
+                        Pageable pageable);
 }
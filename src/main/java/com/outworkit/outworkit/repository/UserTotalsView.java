@@ -0,0 +1,16 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's all-time workout, exercise, set and volume totals
+ */
+public interface UserTotalsView {
+    Long getWorkoutCount();
+    Long getExerciseCount();
+    Long getSetCount();
+    Long getRepCount();
+    Double getTotalVolume();
+    LocalDateTime getFirstWorkout();
+    LocalDateTime getLastWorkout();
+}
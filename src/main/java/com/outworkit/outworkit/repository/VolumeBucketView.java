@@ -0,0 +1,13 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of one aggregated volume bucket (day, week, month or year) of a user's daily rollups
+ */
+public interface VolumeBucketView {
+    LocalDate getPeriodStart();
+    Long getSetCount();
+    Long getRepCount();
+    Double getTotalVolume();
+}
@@ -0,0 +1,113 @@
+package com.outworkit.outworkit.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch inserts for bulk imports and whole-session creation.
+ * Entities use IDENTITY ids, which stop Hibernate from batching inserts, so rows are written as
+ * JDBC batches and their ids are read back from the generated keys of each batch, in insert order.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed("outworkit.repository")
+public class WorkoutBatchInserter {
+
+    private static final String INSERT_RESULT =
+            "insert into tbl_exercise_results (workout_exercise_id, set_number, reps, weight) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long[] insertWorkouts(Long userId, List<LocalDateTime> dates) {
+        return insertWorkouts(userId, null, dates);
+    }
+
+    public long[] insertWorkouts(Long userId, Long splitId, List<LocalDateTime> dates) {
+        return insertReturningIds("insert into tbl_workouts (user_id, split_id, created_at) values (?, ?, ?)", dates.size(),
+                (ps, i) -> {
+                    ps.setLong(1, userId);
+                    ps.setObject(2, splitId, Types.BIGINT);
+                    ps.setTimestamp(3, Timestamp.valueOf(dates.get(i)));
+                });
+    }
+
+    public long[] insertWorkoutExercises(long[] workoutIds, long[] exerciseIds) {
+        return insertReturningIds("insert into tbl_workout_exercise (workout_id, exercise_id) values (?, ?)",
+                workoutIds.length,
+                (ps, i) -> {
+                    ps.setLong(1, workoutIds[i]);
+                    ps.setLong(2, exerciseIds[i]);
+                });
+    }
+
+    public void insertResults(long[] workoutExerciseIds, int[] setNumbers, int[] reps, double[] weights) {
+        jdbcTemplate.batchUpdate(INSERT_RESULT,
+                setter(workoutExerciseIds.length, resultSetter(workoutExerciseIds, setNumbers, reps, weights)));
+    }
+
+    public long[] insertResultsReturningIds(long[] workoutExerciseIds, int[] setNumbers, int[] reps, double[] weights) {
+        return insertReturningIds(INSERT_RESULT, workoutExerciseIds.length,
+                resultSetter(workoutExerciseIds, setNumbers, reps, weights));
+    }
+
+    private static RowSetter resultSetter(long[] workoutExerciseIds, int[] setNumbers, int[] reps, double[] weights) {
+        return (ps, i) -> {
+            ps.setLong(1, workoutExerciseIds[i]);
+            ps.setInt(2, setNumbers[i]);
+            ps.setInt(3, reps[i]);
+            ps.setDouble(4, weights[i]);
+        };
+    }
+
+    private long[] insertReturningIds(String sql, int count, RowSetter rowSetter) {
+        if (count == 0) {
+            return new long[0];
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                setter(count, rowSetter), keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != count) {
+            throw new IllegalStateException(String.format("Expected %d generated ids, got %d", count, keys.size()));
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+
+    private static BatchPreparedStatementSetter setter(int count, RowSetter rowSetter) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                rowSetter.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+}
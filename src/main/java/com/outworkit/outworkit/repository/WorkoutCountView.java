@@ -0,0 +1,11 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the number of workouts in one period bucket
+ */
+public interface WorkoutCountView {
+    LocalDateTime getPeriodStart();
+    Long getWorkoutCount();
+}
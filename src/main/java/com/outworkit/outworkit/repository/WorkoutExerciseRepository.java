@@ -1,9 +1,67 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.WorkoutExerciseDTO;
 import com.outworkit.outworkit.entity.WorkoutExercise;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Workout exercises of several workouts with their exercise and sets, in one query
+     */
+    @Query("select distinct we from WorkoutExercise we join fetch we.exercise e " +
+            "left join fetch e.muscleGroup left join fetch e.equipment left join fetch we.results " +
+            "where we.workout.id in :workoutIds order by we.id")
+    List<WorkoutExercise> findWithResultsByWorkoutIds(@Param("workoutIds") Collection<Long> workoutIds);
+
+    /**
+     * Initializes the sets of a user's workout exercises in [from, to], already loaded in the persistence context
+     */
+    @Query("select we from WorkoutExercise we join we.workout w left join fetch we.results r " +
+            "where w.user.id = :userId and w.createdAt is not null " +
+            "and (:from is null or w.createdAt >= :from) " +
+            "and (:to is null or w.createdAt <= :to) " +
+            "order by we.id, r.id")
+    List<WorkoutExercise> fetchResultsByUserId(@Param("userId") Long userId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    @Query("select we from WorkoutExercise we left join fetch we.results r where we.workout.id = :workoutId order by we.id, r.id")
+    List<WorkoutExercise> fetchResultsByWorkoutId(@Param("workoutId") Long workoutId);
+
+    @Query("select distinct w.user.id as userId, we.exercise.id as exerciseId " +
+            "from WorkoutExercise we join we.workout w where w.id = :workoutId")
+    List<UserExerciseView> findUserExercisesByWorkoutId(@Param("workoutId") Long workoutId);
+
+    @Query("select we.id as id, w.user.id as userId, we.exercise.id as exerciseId, w.createdAt as workoutDate " +
+            "from WorkoutExercise we join we.workout w where we.id = :id")
+    Optional<WorkoutExerciseTargetView> findTargetById(@Param("id") Long id);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.WorkoutExerciseDTO(x.id, w.id, x.exercise.id) " +
+            "from WorkoutExercise x left join x.workout w ";
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<WorkoutExerciseDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT +
+            "where (:workoutId is null or w.id = :workoutId) " +
+            "and (:exerciseId is null or x.exercise.id = :exerciseId) " +
+            "and (:userId is null or w.user.id = :userId) " +
+            "and " + IdKeyset.AFTER_ID)
+    List<WorkoutExerciseDTO> findPage(@Param("workoutId") Long workoutId,
+                                   @Param("exerciseId") Long exerciseId,
+                                   @Param("userId") Long userId,
+                                   @Param("afterId") Long afterId,
+                                   @Param("descending") boolean descending,
+                                   Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of what a new set needs to know about its workout exercise
+ */
+public interface WorkoutExerciseTargetView {
+    Long getId();
+    Long getUserId();
+    Long getExerciseId();
+    LocalDateTime getWorkoutDate();
+}
@@ -0,0 +1,20 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one flattened workout / workout exercise / set row of a history export.
+ * Workout exercise and set columns are null for workouts or exercises without children.
+ */
+public interface WorkoutExportRowView {
+    Long getWorkoutId();
+    LocalDateTime getCreatedAt();
+    String getSplitName();
+    Long getWorkoutExerciseId();
+    Long getExerciseId();
+    String getExerciseName();
+    Long getResultId();
+    Integer getSetNumber();
+    Integer getReps();
+    Double getWeight();
+}
@@ -1,12 +1,143 @@
 package com.outworkit.outworkit.repository;
 
+import com.outworkit.outworkit.dto.WorkoutDTO;
 import com.outworkit.outworkit.entity.Workout;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, Long> {
-    List<Workout> findByUserId(Long userId);
-}
\ No newline at end of file
+    String TREE_SELECT = "select w from Workout w left join fetch w.user left join fetch w.split " +
+            "left join fetch w.workoutExercises we left join fetch we.exercise e " +
+            "left join fetch e.muscleGroup left join fetch e.equipment ";
+
+    /**
+     * A user's dated workouts in [from, to] with their exercises; the sets are loaded by {@link WorkoutTreeLoader}
+     */
+    @Query(TREE_SELECT +
+            "where w.user.id = :userId and w.createdAt is not null " +
+            "and (:from is null or w.createdAt >= :from) " +
+            "and (:to is null or w.createdAt <= :to) " +
+            "order by w.createdAt, w.id, we.id")
+    List<Workout> findTreesByUserId(@Param("userId") Long userId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    @Query(TREE_SELECT + "where w.id = :id order by we.id")
+    Optional<Workout> findTreeById(@Param("id") Long id);
+
+    /**
+     * Keyset page of a user's dated workouts in [from, to], newest first, starting strictly
+     * after the (cursorDate, cursorId) position; any bound or the cursor may be null
+     */
+    @Query("select w from Workout w join fetch w.user left join fetch w.split " +
+            "where w.user.id = :userId and w.createdAt is not null " +
+            "and (:from is null or w.createdAt >= :from) " +
+            "and (:to is null or w.createdAt <= :to) " +
+            "and (:cursorDate is null or w.createdAt < :cursorDate " +
+            "or (w.createdAt = :cursorDate and w.id < :cursorId)) " +
+            "order by w.createdAt desc, w.id desc")
+    List<Workout> findPageByUserId(@Param("userId") Long userId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("cursorDate") LocalDateTime cursorDate,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * Forward-only cursor over a user's whole history as flat rows, grouped by workout then workout exercise.
+     * Must be consumed inside a transaction and closed.
+     */
+    @Query("select w.id as workoutId, w.createdAt as createdAt, s.name as splitName, " +
+            "we.id as workoutExerciseId, e.id as exerciseId, e.name as exerciseName, " +
+            "r.id as resultId, r.setNumber as setNumber, r.reps as reps, r.weight as weight " +
+            "from Workout w left join w.split s left join w.workoutExercises we " +
+            "left join we.exercise e left join we.results r " +
+            "where w.user.id = :userId order by w.createdAt, w.id, we.id, r.setNumber, r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<WorkoutExportRowView> streamExportRows(@Param("userId") Long userId);
+
+    @Query("select w.createdAt from Workout w where w.user.id = :userId")
+    List<LocalDateTime> findCreatedAtByUserId(@Param("userId") Long userId);
+
+    @Query("select count(distinct w.id) as workoutCount, count(distinct we.id) as exerciseCount, " +
+            "count(r.id) as setCount, coalesce(sum(r.reps), 0) as repCount, " +
+            "coalesce(sum(r.weight * r.reps), 0) as totalVolume, " +
+            "min(w.createdAt) as firstWorkout, max(w.createdAt) as lastWorkout " +
+            "from Workout w left join w.workoutExercises we left join we.results r " +
+            "where w.user.id = :userId and w.createdAt is not null")
+    UserTotalsView sumTotalsByUserId(@Param("userId") Long userId);
+
+    @Query("select w.createdAt as createdAt, coalesce(sum(r.weight * r.reps), 0) as volume " +
+            "from Workout w left join w.workoutExercises we left join we.results r " +
+            "where w.user.id = :userId and w.createdAt is not null group by w.id, w.createdAt")
+    List<WorkoutVolumeView> findVolumesByUserId(@Param("userId") Long userId);
+
+    String WORKOUT_COUNT_SELECT = "select min(w.createdAt) as periodStart, count(w.id) as workoutCount " +
+            "from Workout w where w.user.id = :userId and w.createdAt is not null " +
+            "and (:from is null or w.createdAt >= :from) " +
+            "and (:to is null or w.createdAt < :to) ";
+
+    @Query(WORKOUT_COUNT_SELECT +
+            "group by extract(year from w.createdAt), extract(month from w.createdAt), extract(day from w.createdAt) " +
+            "order by periodStart")
+    List<WorkoutCountView> countByDay(@Param("userId") Long userId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /**
+     * Grouped by the Monday starting each ISO week, so a week spanning new year is one row.
+     * Day of week counts from 1 on Sunday, so Monday is 0 days back and Sunday 6.
+     */
+    @Query(WORKOUT_COUNT_SELECT +
+            "group by cast(w.createdAt as LocalDate) - (mod(extract(day of week from w.createdAt) + 5, 7)) day " +
+            "order by periodStart")
+    List<WorkoutCountView> countByWeek(@Param("userId") Long userId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query(WORKOUT_COUNT_SELECT +
+            "group by extract(year from w.createdAt), extract(month from w.createdAt) " +
+            "order by periodStart")
+    List<WorkoutCountView> countByMonth(@Param("userId") Long userId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Query(WORKOUT_COUNT_SELECT +
+            "group by extract(year from w.createdAt) " +
+            "order by periodStart")
+    List<WorkoutCountView> countByYear(@Param("userId") Long userId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    String DTO_SELECT = "select new com.outworkit.outworkit.dto.WorkoutDTO(x.id, x.createdAt, x.user.id, x.split.id) " +
+            "from Workout x ";
+
+    @Query(DTO_SELECT + "where x.id = :id")
+    Optional<WorkoutDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT +
+            "where (:userId is null or x.user.id = :userId) " +
+            "and (:splitId is null or x.split.id = :splitId) " +
+            "and (:startDate is null or x.createdAt >= :startDate) " +
+            "and (:endDate is null or x.createdAt <= :endDate) " +
+            "and " + IdKeyset.AFTER_ID)
+    List<WorkoutDTO> findPage(@Param("userId") Long userId,
+                           @Param("splitId") Long splitId,
+                           @Param("startDate") LocalDateTime startDate,
+                           @Param("endDate") LocalDateTime endDate,
+                           @Param("afterId") Long afterId,
+                           @Param("descending") boolean descending,
+                           Pageable pageable);
+}
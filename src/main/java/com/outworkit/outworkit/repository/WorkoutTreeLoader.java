@@ -0,0 +1,45 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.Workout;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads whole workout trees (workout, split, exercises with equipment and muscle group, sets) in two
+ * queries, whatever the number of workouts: the workouts with their exercises, then the sets of those
+ * exercises. Only one collection is fetched per query, so no cartesian product across bags.
+ * The second query fills the collections of the entities loaded by the first, so both must run in
+ * the same persistence context: call it inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed("outworkit.repository")
+public class WorkoutTreeLoader {
+
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+
+    /**
+     * A user's workouts dated in [from, to] in date order; either bound may be null
+     */
+    public List<Workout> loadForUser(Long userId, LocalDateTime from, LocalDateTime to) {
+        List<Workout> workouts = workoutRepository.findTreesByUserId(userId, from, to);
+        if (!workouts.isEmpty()) {
+            workoutExerciseRepository.fetchResultsByUserId(userId, from, to);
+        }
+        return workouts;
+    }
+
+    public Optional<Workout> loadWorkout(Long workoutId) {
+        Optional<Workout> workout = workoutRepository.findTreeById(workoutId);
+        if (workout.isPresent()) {
+            workoutExerciseRepository.fetchResultsByWorkoutId(workoutId);
+        }
+        return workout;
+    }
+}
@@ -0,0 +1,11 @@
+package com.outworkit.outworkit.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one workout's date and lifted volume
+ */
+public interface WorkoutVolumeView {
+    LocalDateTime getCreatedAt();
+    Double getVolume();
+}
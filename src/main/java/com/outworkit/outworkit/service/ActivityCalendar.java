@@ -0,0 +1,210 @@
+package com.outworkit.outworkit.service;
+
+import java.util.Arrays;
+
+/**
+ * Immutable bitset of the epoch days on which a user trained.
+ * Bit {@code i} of word {@code w} stands for day {@code baseDay + w * 64 + i}.
+ */
+public final class ActivityCalendar {
+
+    static final ActivityCalendar EMPTY = new ActivityCalendar(0, new long[0]);
+
+    private final long baseDay;
+    private final long[] words;
+
+    private ActivityCalendar(long baseDay, long[] words) {
+        this.baseDay = baseDay;
+        this.words = words;
+    }
+
+    public static ActivityCalendar of(long... epochDays) {
+        if (epochDays.length == 0) {
+            return EMPTY;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long day : epochDays) {
+            min = Math.min(min, day);
+            max = Math.max(max, day);
+        }
+
+        long base = Math.floorDiv(min, 64) * 64;
+        long[] words = new long[(int) ((max - base) / 64) + 1];
+        for (long day : epochDays) {
+            long offset = day - base;
+            words[(int) (offset >>> 6)] |= 1L << offset;
+        }
+        return new ActivityCalendar(base, words);
+    }
+
+    /**
+     * Copy of this calendar with one more active day
+     */
+    public ActivityCalendar with(long epochDay) {
+        if (words.length == 0) {
+            return of(epochDay);
+        }
+        if (isActive(epochDay)) {
+            return this;
+        }
+
+        long base = Math.min(baseDay, Math.floorDiv(epochDay, 64) * 64);
+        long end = Math.max(baseDay + (long) words.length * 64, Math.floorDiv(epochDay, 64) * 64 + 64);
+        long[] grown = new long[(int) ((end - base) / 64)];
+        System.arraycopy(words, 0, grown, (int) ((baseDay - base) / 64), words.length);
+
+        long offset = epochDay - base;
+        grown[(int) (offset >>> 6)] |= 1L << offset;
+        return new ActivityCalendar(base, grown);
+    }
+
+    public boolean isActive(long epochDay) {
+        long offset = epochDay - baseDay;
+        if (offset < 0 || offset >= (long) words.length * 64) {
+            return false;
+        }
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    public int activeDays() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Number of active days in [fromDay, toDay]
+     */
+    public int activeDays(long fromDay, long toDay) {
+        int count = 0;
+        for (int w = wordIndex(fromDay); w <= wordIndex(toDay); w++) {
+            count += Long.bitCount(word(w) & rangeMask(w, fromDay, toDay));
+        }
+        return count;
+    }
+
+    /**
+     * Active days counted back from today (or yesterday), tolerating single rest days between them.
+     * Works on a gap-filled copy of the bits where a rest day flanked by two active days is set.
+     */
+    public int currentStreak(long today) {
+        long start;
+        if (isActive(today)) {
+            start = today;
+        } else if (isActive(today - 1)) {
+            start = today - 1;
+        } else {
+            return 0;
+        }
+
+        int startWord = wordIndex(start);
+        long mask = rangeMask(startWord, Long.MIN_VALUE, start);
+        int count = 0;
+
+        for (int w = startWord; w >= 0; w--) {
+            long bits = word(w) & mask;
+            long filled = gapFilled(w) & mask;
+            // Ones from the top of the mask down to the first hole end the run
+            long holes = ~filled & mask;
+            if (holes != 0) {
+                int highestHole = 63 - Long.numberOfLeadingZeros(holes);
+                long run = highestHole == 63 ? 0 : -1L << (highestHole + 1);
+                return count + Long.bitCount(bits & run);
+            }
+            count += Long.bitCount(bits);
+            mask = -1L;
+        }
+        return count;
+    }
+
+    /**
+     * Longest run of consecutive active days
+     */
+    public int longestStreak() {
+        int longest = 0;
+        int current = 0;
+        for (long word : words) {
+            if (word == -1L) {
+                current += 64;
+                longest = Math.max(longest, current);
+                continue;
+            }
+            long remaining = word;
+            int consumed = 0;
+            while (consumed < 64) {
+                int ones = Long.numberOfTrailingZeros(~remaining);
+                current += ones;
+                longest = Math.max(longest, current);
+                consumed += ones;
+                if (consumed >= 64) {
+                    break;
+                }
+                remaining >>>= ones;
+                int zeros = Math.min(Long.numberOfTrailingZeros(remaining), 64 - consumed);
+                current = 0;
+                consumed += zeros;
+                remaining = zeros == 64 ? 0 : remaining >>> zeros;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Active days in [fromDay, toDay], ascending
+     */
+    public long[] activeDaysBetween(long fromDay, long toDay) {
+        long[] days = new long[activeDays(fromDay, toDay)];
+        int i = 0;
+        for (int w = wordIndex(fromDay); w <= wordIndex(toDay); w++) {
+            long bits = word(w) & rangeMask(w, fromDay, toDay);
+            while (bits != 0) {
+                days[i++] = baseDay + (long) w * 64 + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Approximate heap footprint in bytes
+     */
+    public long sizeInBytes() {
+        return 32 + 16 + (long) words.length * 8;
+    }
+
+    // Word helpers; out-of-range word indexes read as empty
+
+    private int wordIndex(long epochDay) {
+        return (int) Math.floorDiv(epochDay - baseDay, 64);
+    }
+
+    private long word(int w) {
+        return w >= 0 && w < words.length ? words[w] : 0L;
+    }
+
+    private long gapFilled(int w) {
+        long bits = word(w);
+        long previous = (bits << 1) | (word(w - 1) >>> 63);
+        long next = (bits >>> 1) | (word(w + 1) << 63);
+        return bits | (previous & next);
+    }
+
+    private long rangeMask(int w, long fromDay, long toDay) {
+        long first = baseDay + (long) w * 64;
+        long low = Math.max(fromDay, first) - first;
+        long high = Math.min(toDay, first + 63) - first;
+        if (low > high) {
+            return 0L;
+        }
+        long upper = high == 63 ? -1L : (1L << (high + 1)) - 1;
+        return upper & (-1L << low);
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityCalendar{baseDay=" + baseDay + ", words=" + Arrays.toString(words) + '}';
+    }
+}
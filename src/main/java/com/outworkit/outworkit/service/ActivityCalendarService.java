@@ -0,0 +1,129 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ActivityHeatmapDTO;
+import com.outworkit.outworkit.repository.WorkoutRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Per-user cache of {@link ActivityCalendar}s, loaded lazily from workout dates.
+ * Created workouts set their day once the transaction commits; updates and deletes evict the user.
+ * A calendar loaded while a write to its user committed is returned but not cached.
+ */
+@Slf4j
+@Service
+public class ActivityCalendarService {
+
+    private final WorkoutRepository workoutRepository;
+    private final TransactionTemplate loadTransaction;
+
+    // Guarded by this
+    private final Map<Long, ActivityCalendar> calendars;
+    private final UserLoadGuard loadGuard = new UserLoadGuard();
+
+    public ActivityCalendarService(WorkoutRepository workoutRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${outworkit.activity.cache-size:10000}") int cacheSize) {
+        this.workoutRepository = workoutRepository;
+        // Read in a fresh snapshot: the caller's may predate writes whose callbacks have already run
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.calendars = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ActivityCalendar> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public ActivityCalendar getCalendar(Long userId) {
+        long ticket;
+        synchronized (this) {
+            ActivityCalendar calendar = calendars.get(userId);
+            if (calendar != null) {
+                return calendar;
+            }
+            ticket = loadGuard.begin(userId);
+        }
+
+        ActivityCalendar loaded = null;
+        try {
+            loaded = loadTransaction.execute(status -> load(userId));
+        } finally {
+            synchronized (this) {
+                if (loadGuard.end(userId, ticket) && loaded != null) {
+                    calendars.putIfAbsent(userId, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public ActivityHeatmapDTO getHeatmap(Long userId, int days, LocalDate today) {
+        ActivityCalendar calendar = getCalendar(userId);
+        LocalDate startDate = today.minusDays(days - 1L);
+
+        long[] activeDays = calendar.activeDaysBetween(startDate.toEpochDay(), today.toEpochDay());
+        List<LocalDate> activeDates = new ArrayList<>(activeDays.length);
+        for (long day : activeDays) {
+            activeDates.add(LocalDate.ofEpochDay(day));
+        }
+
+        return ActivityHeatmapDTO.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(today)
+                .activeDays(activeDays.length)
+                .currentStreak(calendar.currentStreak(today.toEpochDay()))
+                .longestStreak(calendar.longestStreak())
+                .activeDates(activeDates)
+                .build();
+    }
+
+    public void onWorkoutCreated(Long userId, LocalDateTime createdAt) {
+        if (userId == null || createdAt == null) {
+            return;
+        }
+        long day = createdAt.toLocalDate().toEpochDay();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                loadGuard.written(userId);
+                calendars.computeIfPresent(userId, (id, calendar) -> calendar.with(day));
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            TransactionCallbacks.afterCommit(() -> {
+                synchronized (this) {
+                    loadGuard.written(userId);
+                    calendars.remove(userId);
+                }
+            });
+        }
+    }
+
+    private ActivityCalendar load(Long userId) {
+        List<LocalDateTime> dates = workoutRepository.findCreatedAtByUserId(userId);
+        long[] days = new long[dates.size()];
+        int count = 0;
+        for (LocalDateTime date : dates) {
+            if (date != null) {
+                days[count++] = date.toLocalDate().toEpochDay();
+            }
+        }
+        ActivityCalendar calendar = ActivityCalendar.of(Arrays.copyOf(days, count));
+        log.debug("Loaded activity calendar for user: {} ({} bytes)", userId, calendar.sizeInBytes());
+        return calendar;
+    }
+}
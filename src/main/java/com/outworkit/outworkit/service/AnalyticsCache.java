@@ -0,0 +1,199 @@
+package com.outworkit.outworkit.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of analytics DTOs, keyed by user, query name and query parameters.
+ * Entries expire after a TTL, are evicted least-recently-used beyond the size limit,
+ * and are dropped per user once a write to that user's data commits.
+ * Hit, miss and eviction counts are published as {@code cache.*} meters with {@code cache=analytics}.
+ */
+@Service
+public class AnalyticsCache {
+
+    private record Key(Long userId, String query, List<Object> params) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<Key>> keysByUser = new HashMap<>();
+    private volatile long hits;
+    private volatile long misses;
+    private volatile long puts;
+    private volatile long evictions;
+    // Keeps a value computed while a write to its user commits out of the cache
+    private final UserLoadGuard loadGuard = new UserLoadGuard();
+
+    public AnalyticsCache(MeterRegistry meterRegistry,
+                          @Value("${outworkit.analytics-cache.enabled:true}") boolean enabled,
+                          @Value("${outworkit.analytics-cache.max-entries:10000}") int maxEntries,
+                          @Value("${outworkit.analytics-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        new Metrics(this).bindTo(meterRegistry);
+    }
+
+    /**
+     * Cached result of a query, computing and caching it on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String query, List<Object> params, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(userId, query, params);
+        long ticket;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+                hits++;
+                return (T) entry.value();
+            }
+            if (entry != null) {
+                remove(key);
+                evictions++;
+            }
+            misses++;
+            ticket = loadGuard.begin(userId);
+        }
+
+        T value = null;
+        try {
+            value = loader.get();
+        } finally {
+            synchronized (this) {
+                if (loadGuard.end(userId, ticket) && value != null) {
+                    put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop every cached result of the given users once the current transaction commits
+     */
+    public void invalidate(Long... userIds) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                for (Long userId : userIds) {
+                    loadGuard.written(userId);
+                    Set<Key> keys = userId != null ? keysByUser.remove(userId) : null;
+                    if (keys != null) {
+                        keys.forEach(entries::remove);
+                    }
+                }
+            }
+        });
+    }
+
+    public void invalidate(DailyRollupService.DayKey... keys) {
+        invalidate(Arrays.stream(keys).filter(Objects::nonNull).map(DailyRollupService.DayKey::userId).toArray(Long[]::new));
+    }
+
+    /**
+     * Drop every cached result, e.g. after a bulk rebuild
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                loadGuard.writtenToAll();
+                entries.clear();
+                keysByUser.clear();
+            }
+        });
+    }
+
+    private void put(Key key, Object value) {
+        entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+        keysByUser.computeIfAbsent(key.userId(), id -> new HashSet<>()).add(key);
+        puts++;
+
+        Iterator<Key> eldest = entries.keySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Key evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted);
+            evictions++;
+        }
+    }
+
+    private void remove(Key key) {
+        entries.remove(key);
+        unindex(key);
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = keysByUser.get(key.userId());
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByUser.remove(key.userId());
+        }
+    }
+
+    private static final class Metrics extends CacheMeterBinder<AnalyticsCache> {
+
+        Metrics(AnalyticsCache cache) {
+            super(cache, "analytics", Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            AnalyticsCache cache = getCache();
+            if (cache == null) {
+                return null;
+            }
+            synchronized (cache) {
+                return (long) cache.entries.size();
+            }
+        }
+
+        @Override
+        protected long hitCount() {
+            AnalyticsCache cache = getCache();
+            return cache != null ? cache.hits : 0;
+        }
+
+        @Override
+        protected Long missCount() {
+            AnalyticsCache cache = getCache();
+            return cache != null ? cache.misses : null;
+        }
+
+        @Override
+        protected Long evictionCount() {
+            AnalyticsCache cache = getCache();
+            return cache != null ? cache.evictions : null;
+        }
+
+        @Override
+        protected long putCount() {
+            AnalyticsCache cache = getCache();
+            return cache != null ? cache.puts : 0;
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
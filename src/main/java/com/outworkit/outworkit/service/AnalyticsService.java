@@ -1,18 +1,24 @@
 package com.outworkit.outworkit.service;
 
+import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.dto.*;
 import com.outworkit.outworkit.entity.*;
 import com.outworkit.outworkit.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
 import java.time.temporal.WeekFields;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for generating analytics and progress tracking data
@@ -21,50 +27,26 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("outworkit.analytics")
 public class AnalyticsService {
 
     private final WorkoutRepository workoutRepository;
     private final ExerciseResultRepository exerciseResultRepository;
     private final UserRepository userRepository;
+    private final PersonalRecordService personalRecordService;
+    private final DailyExerciseRollupRepository rollupRepository;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutTreeLoader workoutTreeLoader;
 
     /**
      * Get personal records for a user across all exercises
      */
     public List<PersonalRecordDTO> getUserPersonalRecords(Long userId) {
         log.info("Fetching personal records for user: {}", userId);
-        
-        List<Workout> workouts = workoutRepository.findByUserId(userId);
-        Map<Long, PersonalRecordDTO> exercisePRs = new HashMap<>();
-
-        for (Workout workout : workouts) {
-            for (WorkoutExercise we : workout.getWorkoutExercises()) {
-                Long exerciseId = we.getExercise().getId();
-                String exerciseName = we.getExercise().getName();
-
-                for (ExerciseResult result : we.getResults()) {
-                    double weight = result.getWeight();
-                    int reps = result.getReps();
-                    double oneRepMax = calculateOneRepMax(weight, reps);
-
-                    PersonalRecordDTO existingPR = exercisePRs.get(exerciseId);
-
-                    if (existingPR == null || weight > existingPR.getMaxWeight()) {
-                        exercisePRs.put(exerciseId, PersonalRecordDTO.builder()
-                                .exerciseId(exerciseId)
-                                .exerciseName(exerciseName)
-                                .maxWeight(weight)
-                                .repsAtMaxWeight(reps)
-                                .achievedDate(workout.getCreatedAt())
-                                .workoutId(workout.getId())
-                                .oneRepMax(oneRepMax)
-                                .totalVolume(reps)
-                                .build());
-                    }
-                }
-            }
-        }
-
-        return new ArrayList<>(exercisePRs.values());
+        return personalRecordService.getUserPersonalRecords(userId);
     }
 
     /**
@@ -72,34 +54,7 @@ public class AnalyticsService {
      */
     public PersonalRecordDTO getExercisePersonalRecord(Long userId, Long exerciseId) {
         log.info("Fetching personal record for user: {} and exercise: {}", userId, exerciseId);
-        
-        List<Workout> workouts = workoutRepository.findByUserId(userId);
-        PersonalRecordDTO pr = null;
-
-        for (Workout workout : workouts) {
-            for (WorkoutExercise we : workout.getWorkoutExercises()) {
-                if (we.getExercise().getId().equals(exerciseId)) {
-                    for (ExerciseResult result : we.getResults()) {
-                        double weight = result.getWeight();
-                        int reps = result.getReps();
-
-                        if (pr == null || weight > pr.getMaxWeight()) {
-                            pr = PersonalRecordDTO.builder()
-                                    .exerciseId(exerciseId)
-                                    .exerciseName(we.getExercise().getName())
-                                    .maxWeight(weight)
-                                    .repsAtMaxWeight(reps)
-                                    .achievedDate(workout.getCreatedAt())
-                                    .workoutId(workout.getId())
-                                    .oneRepMax(calculateOneRepMax(weight, reps))
-                                    .build();
-                        }
-                    }
-                }
-            }
-        }
-
-        return pr;
+        return personalRecordService.getExercisePersonalRecord(userId, exerciseId);
     }
 
     /**
@@ -109,91 +64,36 @@ public class AnalyticsService {
         log.info("Fetching exercise progress for user: {}, exercise: {} from {} to {}", 
                 userId, exerciseId, startDate, endDate);
 
-        List<Workout> workouts = workoutRepository.findByUserId(userId);
         List<ExerciseProgressDTO.ProgressDataPoint> dataPoints = new ArrayList<>();
-        
-        LocalDateTime firstDate = null;
-        LocalDateTime lastDate = null;
-        double firstMaxWeight = 0;
-        double lastMaxWeight = 0;
-        String exerciseName = null;
-
-        for (Workout workout : workouts) {
-            LocalDateTime workoutDate = workout.getCreatedAt();
-            
-            // Filter by date range
-            if ((startDate != null && workoutDate.isBefore(startDate)) ||
-                (endDate != null && workoutDate.isAfter(endDate))) {
-                continue;
-            }
-
-            for (WorkoutExercise we : workout.getWorkoutExercises()) {
-                if (we.getExercise().getId().equals(exerciseId)) {
-                    exerciseName = we.getExercise().getName();
-                    List<ExerciseResult> results = we.getResults();
-
-                    if (!results.isEmpty()) {
-                        double totalWeight = 0;
-                        double maxWeight = 0;
-                        int totalReps = 0;
-                        int totalSets = results.size();
-                        double totalVolume = 0;
-
-                        for (ExerciseResult result : results) {
-                            totalWeight += result.getWeight();
-                            maxWeight = Math.max(maxWeight, result.getWeight());
-                            totalReps += result.getReps();
-                            totalVolume += result.getWeight() * result.getReps();
-                        }
-
-                        double avgWeight = totalWeight / totalSets;
-                        final double finalMaxWeight = maxWeight;
-                        double estimatedOneRepMax = calculateOneRepMax(maxWeight, 
-                                results.stream().filter(r -> r.getWeight() == finalMaxWeight)
-                                        .findFirst().map(ExerciseResult::getReps).orElse(1));
-
-                        dataPoints.add(ExerciseProgressDTO.ProgressDataPoint.builder()
-                                .date(workoutDate)
-                                .workoutId(workout.getId())
-                                .averageWeight(avgWeight)
-                                .maxWeight(maxWeight)
-                                .totalReps(totalReps)
-                                .totalSets(totalSets)
-                                .totalVolume(totalVolume)
-                                .estimatedOneRepMax(estimatedOneRepMax)
-                                .build());
-
-                        if (firstDate == null) {
-                            firstDate = workoutDate;
-                            firstMaxWeight = maxWeight;
-                        }
-                        lastDate = workoutDate;
-                        lastMaxWeight = maxWeight;
-                    }
-                }
-            }
-        }
+        String exerciseName = setHistoryStore.isEnabled() ?
+                collectProgressFromStore(userId, exerciseId, startDate, endDate, dataPoints) :
+                collectProgressFromWorkouts(userId, exerciseId, startDate, endDate, dataPoints);
 
         // Sort by date
         dataPoints.sort(Comparator.comparing(ExerciseProgressDTO.ProgressDataPoint::getDate));
 
         // Calculate stats
         ExerciseProgressDTO.ProgressStats stats = null;
+        double firstMaxWeight = !dataPoints.isEmpty() ? dataPoints.get(0).getMaxWeight() : 0;
         if (!dataPoints.isEmpty() && firstMaxWeight > 0) {
+            ExerciseProgressDTO.ProgressDataPoint first = dataPoints.get(0);
+            ExerciseProgressDTO.ProgressDataPoint last = dataPoints.get(dataPoints.size() - 1);
+            double lastMaxWeight = last.getMaxWeight();
+
             double weightIncrease = ((lastMaxWeight - firstMaxWeight) / firstMaxWeight) * 100;
-            double firstVolume = dataPoints.get(0).getTotalVolume();
-            double lastVolume = dataPoints.get(dataPoints.size() - 1).getTotalVolume();
+            double firstVolume = first.getTotalVolume();
+            double lastVolume = last.getTotalVolume();
             double volumeIncrease = firstVolume > 0 ? ((lastVolume - firstVolume) / firstVolume) * 100 : 0;
             
-            long daysBetween = ChronoUnit.DAYS.between(firstDate, lastDate);
+            long daysBetween = ChronoUnit.DAYS.between(first.getDate(), last.getDate());
             double avgProgression = daysBetween > 0 ? (lastMaxWeight - firstMaxWeight) / dataPoints.size() : 0;
 
             stats = ExerciseProgressDTO.ProgressStats.builder()
                     .weightIncreasePercentage(weightIncrease)
                     .volumeIncreasePercentage(volumeIncrease)
                     .totalWorkouts(dataPoints.size())
-                    .firstWorkout(firstDate)
-                    .lastWorkout(lastDate)
+                    .firstWorkout(first.getDate())
+                    .lastWorkout(last.getDate())
                     .averageWeightProgression(avgProgression)
                     .build();
         }
@@ -215,15 +115,63 @@ public class AnalyticsService {
     public WorkoutSummaryDTO getWorkoutSummary(Long workoutId) {
         log.info("Generating summary for workout: {}", workoutId);
         
-        Workout workout = workoutRepository.findById(workoutId)
+        Workout workout = workoutTreeLoader.loadWorkout(workoutId)
                 .orElseThrow(() -> new RuntimeException("Workout not found: " + workoutId));
 
+        // One lookup for every exercise of the workout instead of one history scan each
+        Set<Long> personalRecordExerciseIds = personalRecordService.findRecordExerciseIds(workoutId);
+        return toSummary(workout, workout.getWorkoutExercises(), personalRecordExerciseIds);
+    }
+
+    /**
+     * Get a page of workout summaries for a user, newest first.
+     * The page is resolved with three queries whatever its size: the workouts, their exercises and sets,
+     * and the personal records set in them.
+     */
+    public WorkoutSummaryPageDTO getWorkoutSummaries(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                                                     String cursor, int limit) {
+        log.info("Fetching workout summaries for user: {} from {} to {}, cursor: {}", userId, startDate, endDate, cursor);
+
+        PageCursor position = cursor != null ? PageCursor.decode(cursor) : new PageCursor(null, null);
+        List<Workout> workouts = workoutRepository.findPageByUserId(userId, startDate, endDate,
+                position.date(), position.id(), PageRequest.of(0, limit + 1));
+        boolean hasMore = workouts.size() > limit;
+        if (hasMore) {
+            workouts = workouts.subList(0, limit);
+        }
+        if (workouts.isEmpty()) {
+            return WorkoutSummaryPageDTO.builder().summaries(List.of()).build();
+        }
+
+        List<Long> workoutIds = workouts.stream().map(Workout::getId).toList();
+        Map<Long, List<WorkoutExercise>> exercisesByWorkout = new HashMap<>();
+        for (WorkoutExercise we : workoutExerciseRepository.findWithResultsByWorkoutIds(workoutIds)) {
+            exercisesByWorkout.computeIfAbsent(we.getWorkout().getId(), id -> new ArrayList<>()).add(we);
+        }
+        Map<Long, Set<Long>> recordsByWorkout = personalRecordService.findRecordExerciseIdsByWorkout(userId, workoutIds);
+
+        List<WorkoutSummaryDTO> summaries = new ArrayList<>(workouts.size());
+        for (Workout workout : workouts) {
+            summaries.add(toSummary(workout,
+                    exercisesByWorkout.getOrDefault(workout.getId(), List.of()),
+                    recordsByWorkout.getOrDefault(workout.getId(), Set.of())));
+        }
+
+        Workout last = workouts.get(workouts.size() - 1);
+        return WorkoutSummaryPageDTO.builder()
+                .summaries(summaries)
+                .nextCursor(hasMore ? new PageCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    private static WorkoutSummaryDTO toSummary(Workout workout, List<WorkoutExercise> workoutExercises,
+                                               Set<Long> personalRecordExerciseIds) {
         int totalSets = 0;
         int totalReps = 0;
         double totalVolume = 0;
         List<WorkoutSummaryDTO.ExerciseSummary> exerciseSummaries = new ArrayList<>();
 
-        for (WorkoutExercise we : workout.getWorkoutExercises()) {
+        for (WorkoutExercise we : workoutExercises) {
             Exercise exercise = we.getExercise();
             List<ExerciseResult> results = we.getResults();
 
@@ -246,9 +194,7 @@ public class AnalyticsService {
 
             double avgWeight = exerciseSets > 0 ? totalWeight / exerciseSets : 0;
 
-            // Check if this is a personal record
-            PersonalRecordDTO pr = getExercisePersonalRecord(workout.getUser().getId(), exercise.getId());
-            boolean isPR = pr != null && pr.getWorkoutId().equals(workoutId);
+            boolean isPR = personalRecordExerciseIds.contains(exercise.getId());
 
             exerciseSummaries.add(WorkoutSummaryDTO.ExerciseSummary.builder()
                     .exerciseId(exercise.getId())
@@ -264,10 +210,10 @@ public class AnalyticsService {
         }
 
         return WorkoutSummaryDTO.builder()
-                .workoutId(workoutId)
+                .workoutId(workout.getId())
                 .workoutDate(workout.getCreatedAt())
                 .splitName(workout.getSplit() != null ? workout.getSplit().getName() : "No Split")
-                .totalExercises(workout.getWorkoutExercises().size())
+                .totalExercises(workoutExercises.size())
                 .totalSets(totalSets)
                 .totalReps(totalReps)
                 .totalVolume(totalVolume)
@@ -276,172 +222,100 @@ public class AnalyticsService {
     }
 
     /**
-     * Get comprehensive user statistics
+     * Opaque keyset position: the date and id of the last workout of the previous page
      */
-    public UserStatsDTO getUserStats(Long userId) {
-        log.info("Generating comprehensive stats for user: {}", userId);
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-
-        List<Workout> workouts = workoutRepository.findByUserId(userId);
-        workouts.sort(Comparator.comparing(Workout::getCreatedAt));
-
-        // Calculate overall stats
-        int totalWorkouts = workouts.size();
-        int totalExercises = 0;
-        int totalSets = 0;
-        int totalReps = 0;
-        double totalVolume = 0;
-        LocalDateTime firstWorkout = !workouts.isEmpty() ? workouts.get(0).getCreatedAt() : null;
-        LocalDateTime lastWorkout = !workouts.isEmpty() ? workouts.get(workouts.size() - 1).getCreatedAt() : null;
+    private record PageCursor(LocalDateTime date, Long id) {
 
-        Map<String, UserStatsDTO.MuscleGroupStats> muscleGroupMap = new HashMap<>();
-        Map<String, UserStatsDTO.WorkoutFrequency> weeklyFrequency = new LinkedHashMap<>();
-
-        for (Workout workout : workouts) {
-            // Weekly frequency
-            String weekKey = workout.getCreatedAt().format(
-                    java.time.format.DateTimeFormatter.ofPattern("YYYY-'W'ww"));
-            
-            UserStatsDTO.WorkoutFrequency freq = weeklyFrequency.getOrDefault(weekKey,
-                    UserStatsDTO.WorkoutFrequency.builder()
-                            .period(weekKey)
-                            .workoutCount(0)
-                            .totalVolume(0.0)
-                            .build());
-            
-            double workoutVolume = 0;
+        String encode() {
+            String position = date + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
 
-            for (WorkoutExercise we : workout.getWorkoutExercises()) {
-                totalExercises++;
-                Exercise exercise = we.getExercise();
-                String muscleGroupName = exercise.getMuscleGroup() != null ? 
-                        exercise.getMuscleGroup().getName() : "Unknown";
-
-                for (ExerciseResult result : we.getResults()) {
-                    totalSets++;
-                    totalReps += result.getReps();
-                    double volume = result.getWeight() * result.getReps();
-                    totalVolume += volume;
-                    workoutVolume += volume;
-
-                    // Update muscle group stats
-                    UserStatsDTO.MuscleGroupStats mgStats = muscleGroupMap.getOrDefault(muscleGroupName,
-                            UserStatsDTO.MuscleGroupStats.builder()
-                                    .muscleGroupName(muscleGroupName)
-                                    .timesWorked(0)
-                                    .totalVolume(0.0)
-                                    .totalSets(0)
-                                    .lastWorked(workout.getCreatedAt())
-                                    .build());
-                    
-                    mgStats.setTimesWorked(mgStats.getTimesWorked() + 1);
-                    mgStats.setTotalVolume(mgStats.getTotalVolume() + volume);
-                    mgStats.setTotalSets(mgStats.getTotalSets() + 1);
-                    mgStats.setLastWorked(workout.getCreatedAt());
-                    muscleGroupMap.put(muscleGroupName, mgStats);
+        static PageCursor decode(String cursor) {
+            try {
+                String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (position.length != 2) {
+                    throw new BadRequestException("Invalid cursor: " + cursor);
                 }
+                return new PageCursor(LocalDateTime.parse(position[0]), Long.parseLong(position[1]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
             }
-
-            freq.setWorkoutCount(freq.getWorkoutCount() + 1);
-            freq.setTotalVolume(freq.getTotalVolume() + workoutVolume);
-            weeklyFrequency.put(weekKey, freq);
         }
+    }
 
-        // Calculate streaks
-        int currentStreak = calculateCurrentStreak(workouts);
-        int longestStreak = calculateLongestStreak(workouts);
+    /**
+     * Get comprehensive user statistics
+     */
+    public UserStatsDTO getUserStats(Long userId) {
+        log.info("Generating comprehensive stats for user: {}", userId);
+        
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found: " + userId));
 
-        // Calculate average workouts per week
-        double avgWorkoutsPerWeek = 0;
-        if (firstWorkout != null && lastWorkout != null) {
-            long weeksBetween = ChronoUnit.WEEKS.between(firstWorkout, lastWorkout);
-            avgWorkoutsPerWeek = weeksBetween > 0 ? (double) totalWorkouts / weeksBetween : totalWorkouts;
+        // Totals, breakdowns and top PRs are all folded in one traversal
+        UserStatsAccumulator accumulator = new UserStatsAccumulator();
+        for (Workout workout : workoutTreeLoader.loadForUser(userId, null, null)) {
+            accumulator.accept(workout);
         }
 
-        UserStatsDTO.OverallStats overallStats = UserStatsDTO.OverallStats.builder()
-                .totalWorkouts(totalWorkouts)
-                .totalExercises(totalExercises)
-                .totalSets(totalSets)
-                .totalReps(totalReps)
-                .totalVolumeLifted(totalVolume)
-                .firstWorkout(firstWorkout)
-                .lastWorkout(lastWorkout)
-                .currentStreak(currentStreak)
-                .longestStreak(longestStreak)
-                .averageWorkoutsPerWeek(avgWorkoutsPerWeek)
-                .build();
-
-        // Get top 10 personal records
-        List<PersonalRecordDTO> topPRs = getUserPersonalRecords(userId).stream()
-                .sorted(Comparator.comparing(PersonalRecordDTO::getOneRepMax).reversed())
-                .limit(10)
-                .collect(Collectors.toList());
-
-        return UserStatsDTO.builder()
-                .userId(userId)
-                .userName(user.getUserName())
-                .overall(overallStats)
-                .topPersonalRecords(topPRs)
-                .muscleGroupBreakdown(muscleGroupMap)
-                .workoutFrequency(new ArrayList<>(weeklyFrequency.values()))
-                .build();
+        ActivityCalendar calendar = activityCalendarService.getCalendar(userId);
+        return accumulator.toDTO(user, calendar.currentStreak(LocalDate.now().toEpochDay()), calendar.longestStreak());
     }
 
     /**
-     * Get volume progress over time
+     * Get volume progress over time.
+     * Set, rep and volume totals come from the daily rollups, so date filters apply at day granularity.
      */
     public VolumeProgressDTO getVolumeProgress(Long userId, String period, LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Fetching volume progress for user: {} with period: {}", userId, period);
-        
-        List<Workout> workouts = workoutRepository.findByUserId(userId);
-        Map<String, VolumeProgressDTO.VolumeDataPoint> dataPointMap = new LinkedHashMap<>();
 
-        for (Workout workout : workouts) {
-            LocalDateTime workoutDate = workout.getCreatedAt();
-            
-            // Filter by date range
-            if ((startDate != null && workoutDate.isBefore(startDate)) ||
-                (endDate != null && workoutDate.isAfter(endDate))) {
-                continue;
-            }
+        LocalDate startDay = startDate != null ? startDate.toLocalDate() : null;
+        LocalDate endDay = endDate != null ? endDate.toLocalDate() : null;
+        LocalDateTime from = startDay != null ? startDay.atStartOfDay() : null;
+        LocalDateTime to = endDay != null ? endDay.plusDays(1).atStartOfDay() : null;
 
-            String label = formatPeriodLabel(workoutDate, period);
+        List<WorkoutCountView> workoutCounts;
+        List<VolumeBucketView> volumes;
+        switch (period.toLowerCase()) {
+            case "weekly" -> {
+                workoutCounts = workoutRepository.countByWeek(userId, from, to);
+                volumes = rollupRepository.sumVolumeByWeek(userId, startDay, endDay);
+            }
+            case "monthly" -> {
+                workoutCounts = workoutRepository.countByMonth(userId, from, to);
+                volumes = rollupRepository.sumVolumeByMonth(userId, startDay, endDay);
+            }
+            case "yearly" -> {
+                workoutCounts = workoutRepository.countByYear(userId, from, to);
+                volumes = rollupRepository.sumVolumeByYear(userId, startDay, endDay);
+            }
+            default -> {
+                workoutCounts = workoutRepository.countByDay(userId, from, to);
+                volumes = rollupRepository.sumVolumeByDay(userId, startDay, endDay);
+            }
+        }
 
-            double workoutVolume = 0;
-            int workoutSets = 0;
-            int workoutReps = 0;
+        // Workout counts and rollup volumes of the same bucket meet under its label
+        Map<String, VolumeProgressDTO.VolumeDataPoint> dataPointMap = new LinkedHashMap<>();
 
-            for (WorkoutExercise we : workout.getWorkoutExercises()) {
-                for (ExerciseResult result : we.getResults()) {
-                    workoutVolume += result.getWeight() * result.getReps();
-                    workoutSets++;
-                    workoutReps += result.getReps();
-                }
-            }
+        for (WorkoutCountView bucket : workoutCounts) {
+            VolumeProgressDTO.VolumeDataPoint dataPoint = volumeDataPoint(dataPointMap, bucket.getPeriodStart(), period);
+            dataPoint.setTotalWorkouts(dataPoint.getTotalWorkouts() + bucket.getWorkoutCount().intValue());
+        }
 
-            VolumeProgressDTO.VolumeDataPoint dataPoint = dataPointMap.getOrDefault(label,
-                    VolumeProgressDTO.VolumeDataPoint.builder()
-                            .date(workoutDate)
-                            .label(label)
-                            .totalVolume(0.0)
-                            .totalWorkouts(0)
-                            .totalSets(0)
-                            .totalReps(0)
-                            .averageVolumePerWorkout(0.0)
-                            .build());
-
-            dataPoint.setTotalVolume(dataPoint.getTotalVolume() + workoutVolume);
-            dataPoint.setTotalWorkouts(dataPoint.getTotalWorkouts() + 1);
-            dataPoint.setTotalSets(dataPoint.getTotalSets() + workoutSets);
-            dataPoint.setTotalReps(dataPoint.getTotalReps() + workoutReps);
-            dataPoint.setAverageVolumePerWorkout(dataPoint.getTotalVolume() / dataPoint.getTotalWorkouts());
-
-            dataPointMap.put(label, dataPoint);
+        for (VolumeBucketView bucket : volumes) {
+            VolumeProgressDTO.VolumeDataPoint dataPoint = volumeDataPoint(dataPointMap, bucket.getPeriodStart().atStartOfDay(), period);
+            dataPoint.setTotalVolume(dataPoint.getTotalVolume() + bucket.getTotalVolume());
+            dataPoint.setTotalSets(dataPoint.getTotalSets() + bucket.getSetCount().intValue());
+            dataPoint.setTotalReps(dataPoint.getTotalReps() + bucket.getRepCount().intValue());
         }
 
         List<VolumeProgressDTO.VolumeDataPoint> dataPoints = new ArrayList<>(dataPointMap.values());
+        for (VolumeProgressDTO.VolumeDataPoint dataPoint : dataPoints) {
+            dataPoint.setAverageVolumePerWorkout(dataPoint.getTotalWorkouts() > 0 ?
+                    dataPoint.getTotalVolume() / dataPoint.getTotalWorkouts() : 0.0);
+        }
         
         // Calculate stats
         VolumeProgressDTO.VolumeStats stats = calculateVolumeStats(dataPoints);
@@ -455,75 +329,154 @@ public class AnalyticsService {
 
     // Helper methods
 
-    private double calculateOneRepMax(double weight, int reps) {
+    public static double calculateOneRepMax(double weight, int reps) {
         if (reps == 1) return weight;
         // Epley formula: 1RM = weight * (1 + reps/30)
         return weight * (1 + reps / 30.0);
     }
 
-    private int calculateCurrentStreak(List<Workout> workouts) {
-        if (workouts.isEmpty()) return 0;
+    /**
+     * One data point per workout exercise, walking workout trees loaded by {@link WorkoutTreeLoader}
+     */
+    private String collectProgressFromWorkouts(Long userId, Long exerciseId, LocalDateTime startDate, LocalDateTime endDate,
+                                               List<ExerciseProgressDTO.ProgressDataPoint> dataPoints) {
+        String exerciseName = null;
 
-        workouts.sort(Comparator.comparing(Workout::getCreatedAt).reversed());
-        
-        int streak = 0;
-        LocalDateTime currentDate = LocalDateTime.now();
-        Set<String> workoutDates = workouts.stream()
-                .map(w -> w.getCreatedAt().toLocalDate().toString())
-                .collect(Collectors.toSet());
-
-        while (workoutDates.contains(currentDate.toLocalDate().toString()) ||
-               workoutDates.contains(currentDate.minusDays(1).toLocalDate().toString())) {
-            if (workoutDates.contains(currentDate.toLocalDate().toString())) {
-                streak++;
-            }
-            currentDate = currentDate.minusDays(1);
-        }
+        for (Workout workout : workoutTreeLoader.loadForUser(userId, startDate, endDate)) {
+            LocalDateTime workoutDate = workout.getCreatedAt();
 
-        return streak;
-    }
+            for (WorkoutExercise we : workout.getWorkoutExercises()) {
+                if (we.getExercise().getId().equals(exerciseId)) {
+                    exerciseName = we.getExercise().getName();
+                    List<ExerciseResult> results = we.getResults();
 
-    private int calculateLongestStreak(List<Workout> workouts) {
-        if (workouts.isEmpty()) return 0;
+                    if (!results.isEmpty()) {
+                        double totalWeight = 0;
+                        double maxWeight = 0;
+                        int repsAtMaxWeight = 1;
+                        int totalReps = 0;
+                        double totalVolume = 0;
 
-        Set<String> workoutDates = workouts.stream()
-                .map(w -> w.getCreatedAt().toLocalDate().toString())
-                .collect(Collectors.toSet());
+                        for (ExerciseResult result : results) {
+                            totalWeight += result.getWeight();
+                            if (result.getWeight() > maxWeight) {
+                                maxWeight = result.getWeight();
+                                repsAtMaxWeight = result.getReps();
+                            }
+                            totalReps += result.getReps();
+                            totalVolume += result.getWeight() * result.getReps();
+                        }
 
-        List<String> sortedDates = new ArrayList<>(workoutDates);
-        Collections.sort(sortedDates);
+                        dataPoints.add(progressDataPoint(workoutDate, workout.getId(), totalWeight, maxWeight,
+                                repsAtMaxWeight, totalReps, results.size(), totalVolume));
+                    }
+                }
+            }
+        }
+
+        return exerciseName;
+    }
 
-        int longestStreak = 1;
-        int currentStreak = 1;
+    /**
+     * One data point per workout exercise, as a tight loop over the user's columnar set history;
+     * the rows of one are contiguous and in the order the workout trees are walked
+     */
+    private String collectProgressFromStore(Long userId, Long exerciseId, LocalDateTime startDate, LocalDateTime endDate,
+                                            List<ExerciseProgressDTO.ProgressDataPoint> dataPoints) {
+        UserSetHistory history = setHistoryStore.get(userId);
+        long exercise = exerciseId;
+        int from = startDate != null ? history.lowerBound(SetHistoryStore.toTime(startDate)) : 0;
+        int to = endDate != null ? history.lowerBound(SetHistoryStore.toTime(endDate) + 1) : history.size();
+
+        long currentWorkout = -1;
+        long currentWorkoutExercise = -1;
+        int sets = 0;
+        double totalWeight = 0;
+        double maxWeight = 0;
+        int repsAtMaxWeight = 1;
+        int totalReps = 0;
+        double totalVolume = 0;
 
-        for (int i = 1; i < sortedDates.size(); i++) {
-            LocalDateTime prevDate = LocalDateTime.parse(sortedDates.get(i - 1) + "T00:00:00");
-            LocalDateTime currDate = LocalDateTime.parse(sortedDates.get(i) + "T00:00:00");
+        for (int i = from; i <= to; i++) {
+            boolean boundary = i == to || history.workoutExerciseId(i) != currentWorkoutExercise;
+            if (boundary && sets > 0) {
+                dataPoints.add(progressDataPoint(SetHistoryStore.fromTime(history.performedAt(i - 1)), currentWorkout,
+                        totalWeight, maxWeight, repsAtMaxWeight, totalReps, sets, totalVolume));
+                sets = 0;
+                totalWeight = 0;
+                maxWeight = 0;
+                repsAtMaxWeight = 1;
+                totalReps = 0;
+                totalVolume = 0;
+            }
+            if (i == to) {
+                break;
+            }
+            currentWorkout = history.workoutId(i);
+            currentWorkoutExercise = history.workoutExerciseId(i);
+            if (history.exerciseId(i) != exercise) {
+                continue;
+            }
 
-            if (ChronoUnit.DAYS.between(prevDate, currDate) == 1) {
-                currentStreak++;
-                longestStreak = Math.max(longestStreak, currentStreak);
-            } else {
-                currentStreak = 1;
+            double weight = history.weight(i);
+            int reps = history.reps(i);
+            sets++;
+            totalWeight += weight;
+            if (weight > maxWeight) {
+                maxWeight = weight;
+                repsAtMaxWeight = reps;
             }
+            totalReps += reps;
+            totalVolume += weight * reps;
         }
 
-        return longestStreak;
+        return dataPoints.isEmpty() ? null : exerciseRepository.findById(exerciseId).map(Exercise::getName).orElse(null);
+    }
+
+    private ExerciseProgressDTO.ProgressDataPoint progressDataPoint(LocalDateTime date, Long workoutId, double totalWeight,
+                                                                   double maxWeight, int repsAtMaxWeight, int totalReps,
+                                                                   int totalSets, double totalVolume) {
+        return ExerciseProgressDTO.ProgressDataPoint.builder()
+                .date(date)
+                .workoutId(workoutId)
+                .averageWeight(totalWeight / totalSets)
+                .maxWeight(maxWeight)
+                .totalReps(totalReps)
+                .totalSets(totalSets)
+                .totalVolume(totalVolume)
+                .estimatedOneRepMax(calculateOneRepMax(maxWeight, repsAtMaxWeight))
+                .build();
     }
 
     private String formatPeriodLabel(LocalDateTime date, String period) {
         switch (period.toLowerCase()) {
             case "weekly":
-                return date.format(java.time.format.DateTimeFormatter.ofPattern("YYYY-'W'ww"));
+                // ISO weeks, matching the week grouping of the volume queries
+                return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR),
+                        date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
             case "monthly":
-                return date.format(java.time.format.DateTimeFormatter.ofPattern("YYYY-MM"));
+                return date.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM"));
             case "yearly":
-                return date.format(java.time.format.DateTimeFormatter.ofPattern("YYYY"));
+                return date.format(java.time.format.DateTimeFormatter.ofPattern("yyyy"));
             default:
                 return date.toLocalDate().toString();
         }
     }
 
+    private VolumeProgressDTO.VolumeDataPoint volumeDataPoint(Map<String, VolumeProgressDTO.VolumeDataPoint> dataPointMap,
+                                                              LocalDateTime date, String period) {
+        return dataPointMap.computeIfAbsent(formatPeriodLabel(date, period), label ->
+                VolumeProgressDTO.VolumeDataPoint.builder()
+                        .date(date)
+                        .label(label)
+                        .totalVolume(0.0)
+                        .totalWorkouts(0)
+                        .totalSets(0)
+                        .totalReps(0)
+                        .averageVolumePerWorkout(0.0)
+                        .build());
+    }
+
     private VolumeProgressDTO.VolumeStats calculateVolumeStats(List<VolumeProgressDTO.VolumeDataPoint> dataPoints) {
         if (dataPoints.isEmpty()) {
             return VolumeProgressDTO.VolumeStats.builder().build();
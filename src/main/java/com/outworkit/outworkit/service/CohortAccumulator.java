@@ -0,0 +1,128 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.CohortReportDTO;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Per-partition accumulator behind {@link CohortAnalyticsService}.
+ * Each partition of users folds its rows into its own instance without locking;
+ * partitions are then combined with {@link #merge}, which only adds totals.
+ */
+final class CohortAccumulator {
+
+    private final int weeks;
+    private final LocalDate today;
+    private final Map<YearMonth, CohortTotals> cohorts = new HashMap<>();
+    private int users;
+    private int usersWithoutCohort;
+
+    private static final class CohortTotals {
+        int users;
+        double totalVolume;
+        final double[] weekVolume;
+        final int[] weekUsers;
+        final Map<String, Double> muscleGroupVolume = new HashMap<>();
+
+        CohortTotals(int weeks) {
+            weekVolume = new double[weeks];
+            weekUsers = new int[weeks];
+        }
+    }
+
+    CohortAccumulator(int weeks, LocalDate today) {
+        this.weeks = weeks;
+        this.today = today;
+    }
+
+    void addUserWithoutCohort() {
+        usersWithoutCohort++;
+    }
+
+    void addUser(LocalDate joined) {
+        CohortTotals cohort = cohort(joined);
+        cohort.users++;
+        users++;
+        for (int week = 0; week < weeks && !joined.plusWeeks(week).isAfter(today); week++) {
+            cohort.weekUsers[week]++;
+        }
+    }
+
+    /**
+     * Add the volume a user of the given signup date lifted on one day
+     */
+    void addVolume(LocalDate joined, LocalDate day, String muscleGroup, double volume) {
+        CohortTotals cohort = cohort(joined);
+        cohort.totalVolume += volume;
+        cohort.muscleGroupVolume.merge(muscleGroup, volume, Double::sum);
+
+        long week = ChronoUnit.DAYS.between(joined, day) / 7;
+        if (!day.isBefore(joined) && week < weeks) {
+            cohort.weekVolume[(int) week] += volume;
+        }
+    }
+
+    void merge(CohortAccumulator other) {
+        users += other.users;
+        usersWithoutCohort += other.usersWithoutCohort;
+        other.cohorts.forEach((month, theirs) -> {
+            CohortTotals ours = cohorts.computeIfAbsent(month, m -> new CohortTotals(weeks));
+            ours.users += theirs.users;
+            ours.totalVolume += theirs.totalVolume;
+            for (int week = 0; week < weeks; week++) {
+                ours.weekVolume[week] += theirs.weekVolume[week];
+                ours.weekUsers[week] += theirs.weekUsers[week];
+            }
+            theirs.muscleGroupVolume.forEach((group, volume) -> ours.muscleGroupVolume.merge(group, volume, Double::sum));
+        });
+    }
+
+    int users() {
+        return users;
+    }
+
+    int usersWithoutCohort() {
+        return usersWithoutCohort;
+    }
+
+    /**
+     * Cohorts in signup order
+     */
+    List<CohortReportDTO.Cohort> toCohorts() {
+        List<CohortReportDTO.Cohort> result = new ArrayList<>();
+        for (Map.Entry<YearMonth, CohortTotals> entry : new TreeMap<>(cohorts).entrySet()) {
+            CohortTotals totals = entry.getValue();
+            List<CohortReportDTO.WeekVolume> weeklyVolume = new ArrayList<>();
+            for (int week = 0; week < weeks; week++) {
+                int weekUsers = totals.weekUsers[week];
+                weeklyVolume.add(CohortReportDTO.WeekVolume.builder()
+                        .week(week)
+                        .users(weekUsers)
+                        .averageVolume(weekUsers > 0 ? round(totals.weekVolume[week] / weekUsers) : null)
+                        .build());
+            }
+            Map<String, Double> muscleGroupVolume = new TreeMap<>();
+            totals.muscleGroupVolume.forEach((group, volume) -> muscleGroupVolume.put(group, round(volume)));
+
+            result.add(CohortReportDTO.Cohort.builder()
+                    .cohort(entry.getKey().toString())
+                    .users(totals.users)
+                    .totalVolume(round(totals.totalVolume))
+                    .weeklyVolume(weeklyVolume)
+                    .muscleGroupVolume(muscleGroupVolume)
+                    .build());
+        }
+        return result;
+    }
+
+    private CohortTotals cohort(LocalDate joined) {
+        return cohorts.computeIfAbsent(YearMonth.from(joined), m -> new CohortTotals(weeks));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,156 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.CohortReportDTO;
+import com.outworkit.outworkit.entity.Exercise;
+import com.outworkit.outworkit.repository.DailyExerciseRollupRepository;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.RollupRowView;
+import com.outworkit.outworkit.repository.UserCohortView;
+import com.outworkit.outworkit.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Population-level reports over users grouped by signup month ({@code User.createdAt}).
+ * Users are split into id ranges of {@code outworkit.cohorts.partition-size} users; each range is
+ * scanned from the daily rollups in its own read-only transaction on a fixed pool of
+ * {@code outworkit.cohorts.threads} threads, folding into its own {@link CohortAccumulator}.
+ * Only the small accumulators are merged, so memory is bounded by the rows of the partitions being scanned.
+ */
+@Slf4j
+@Service
+public class CohortAnalyticsService {
+
+    private final UserRepository userRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final DailyExerciseRollupRepository rollupRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int partitionSize;
+    private final ExecutorService executor;
+
+    private record IdRange(Long fromId, Long toId) {
+    }
+
+    public CohortAnalyticsService(UserRepository userRepository,
+                                  ExerciseRepository exerciseRepository,
+                                  DailyExerciseRollupRepository rollupRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${outworkit.cohorts.threads:0}") int threads,
+                                  @Value("${outworkit.cohorts.partition-size:1000}") int partitionSize) {
+        this.userRepository = userRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.rollupRepository = rollupRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.partitionSize = Math.max(1, partitionSize);
+        // 0 means one thread per core
+        this.executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                new CustomizableThreadFactory("cohorts-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Weekly volume over the first weeks after signup and volume by muscle group, per signup month.
+     * fromCohort and toCohort are inclusive and optional.
+     */
+    public CohortReportDTO getCohortReport(int weeks, YearMonth fromCohort, YearMonth toCohort) {
+        log.info("Generating cohort report for {} weeks, cohorts {} to {}", weeks, fromCohort, toCohort);
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        Map<Long, String> muscleGroups = new HashMap<>();
+        for (Exercise exercise : exerciseRepository.findAll()) {
+            muscleGroups.put(exercise.getId(), exercise.getMuscleGroup() != null ?
+                    exercise.getMuscleGroup().getName() : "Unknown");
+        }
+
+        List<IdRange> partitions = partition(userRepository.findAllIds());
+        List<CompletableFuture<CohortAccumulator>> scans = new ArrayList<>(partitions.size());
+        for (IdRange range : partitions) {
+            scans.add(CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status ->
+                    scan(range, weeks, today, fromCohort, toCohort, muscleGroups)), executor));
+        }
+
+        CohortAccumulator total = new CohortAccumulator(weeks, today);
+        try {
+            for (CompletableFuture<CohortAccumulator> scan : scans) {
+                total.merge(scan.join());
+            }
+        } catch (CompletionException e) {
+            scans.forEach(scan -> scan.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Cohort report over {} users in {} partitions took {} ms", total.users(), partitions.size(), elapsedMillis);
+
+        return CohortReportDTO.builder()
+                .weeks(weeks)
+                .users(total.users())
+                .usersWithoutCohort(total.usersWithoutCohort())
+                .partitions(partitions.size())
+                .elapsedMillis(elapsedMillis)
+                .cohorts(total.toCohorts())
+                .build();
+    }
+
+    private CohortAccumulator scan(IdRange range, int weeks, LocalDate today, YearMonth fromCohort, YearMonth toCohort,
+                                   Map<Long, String> muscleGroups) {
+        CohortAccumulator accumulator = new CohortAccumulator(weeks, today);
+
+        Map<Long, LocalDate> joined = new HashMap<>();
+        for (UserCohortView user : userRepository.findCohortsByIdBetween(range.fromId(), range.toId())) {
+            if (user.getCreatedAt() == null) {
+                accumulator.addUserWithoutCohort();
+                continue;
+            }
+            LocalDate signup = user.getCreatedAt().toLocalDate();
+            YearMonth cohort = YearMonth.from(signup);
+            if ((fromCohort == null || !cohort.isBefore(fromCohort)) && (toCohort == null || !cohort.isAfter(toCohort))) {
+                joined.put(user.getId(), signup);
+                accumulator.addUser(signup);
+            }
+        }
+        if (joined.isEmpty()) {
+            return accumulator;
+        }
+
+        for (RollupRowView row : rollupRepository.findRowsByUserIdBetween(range.fromId(), range.toId())) {
+            LocalDate signup = joined.get(row.getUserId());
+            if (signup != null) {
+                accumulator.addVolume(signup, row.getTrainingDay(),
+                        muscleGroups.getOrDefault(row.getExerciseId(), "Unknown"), row.getVolume());
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Split sorted ids into contiguous ranges of at most partitionSize users
+     */
+    private List<IdRange> partition(List<Long> ids) {
+        List<IdRange> ranges = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += partitionSize) {
+            int to = Math.min(from + partitionSize, ids.size()) - 1;
+            ranges.add(new IdRange(ids.get(from), ids.get(to)));
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,55 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the daily rollups from raw sets, one transaction per user.
+ * Runs on startup when outworkit.rollups.backfill-on-startup is enabled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyRollupBackfillJob {
+
+    private final DailyRollupService dailyRollupService;
+    private final UserRepository userRepository;
+
+    @Value("${outworkit.rollups.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (backfillOnStartup) {
+            run();
+        }
+    }
+
+    public int run() {
+        log.info("Starting daily rollup backfill");
+        long start = System.currentTimeMillis();
+        int users = 0;
+        int failed = 0;
+        int rows = 0;
+
+        for (Long userId : userRepository.findAllIds()) {
+            // Each user is rebuilt in its own transaction; one bad history must not stop the others
+            try {
+                rows += dailyRollupService.rebuildForUser(userId);
+                users++;
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Daily rollup backfill failed for user: {}", userId, e);
+            }
+        }
+
+        log.info("Daily rollup backfill finished: {} users, {} failed, {} rows in {} ms",
+                users, failed, rows, System.currentTimeMillis() - start);
+        return users;
+    }
+}
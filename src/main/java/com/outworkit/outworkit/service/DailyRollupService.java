@@ -0,0 +1,137 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.entity.DailyExerciseRollup;
+import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.entity.Workout;
+import com.outworkit.outworkit.entity.WorkoutExercise;
+import com.outworkit.outworkit.repository.*;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Maintains the per-user, per-day, per-exercise rollup table.
+ * Any write touching a training day re-derives that day's rows from its raw sets,
+ * which keeps updates and deletes exact at the cost of one small query.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class DailyRollupService {
+
+    private final DailyExerciseRollupRepository rollupRepository;
+    private final ExerciseResultRepository exerciseResultRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+
+    /**
+     * A user's training day, the unit rollups are refreshed in.
+     * The day is null for a workout without a date: it has no rollups, but its user's caches still go stale.
+     */
+    public record DayKey(Long userId, LocalDate day) {
+    }
+
+    public DayKey keyOf(Workout workout) {
+        if (workout == null || workout.getUser() == null || workout.getUser().getId() == null) {
+            return null;
+        }
+        return new DayKey(workout.getUser().getId(),
+                workout.getCreatedAt() != null ? workout.getCreatedAt().toLocalDate() : null);
+    }
+
+    public DayKey keyOfWorkout(Long workoutId) {
+        return workoutId == null ? null : workoutRepository.findById(workoutId).map(this::keyOf).orElse(null);
+    }
+
+    public DayKey keyOfWorkoutExercise(Long workoutExerciseId) {
+        return workoutExerciseId == null ? null : workoutExerciseRepository.findById(workoutExerciseId)
+                .map(WorkoutExercise::getWorkout)
+                .map(this::keyOf)
+                .orElse(null);
+    }
+
+    public DayKey keyOfResult(Long exerciseResultId) {
+        return exerciseResultId == null ? null : exerciseResultRepository.findById(exerciseResultId)
+                .map(ExerciseResult::getWorkoutExercise)
+                .map(WorkoutExercise::getWorkout)
+                .map(this::keyOf)
+                .orElse(null);
+    }
+
+    /**
+     * Re-derive the rollups of each distinct, non-null day
+     */
+    public void refresh(DayKey... keys) {
+        Set<DayKey> distinct = new LinkedHashSet<>();
+        for (DayKey key : keys) {
+            if (key != null && key.day() != null) {
+                distinct.add(key);
+            }
+        }
+        for (DayKey key : distinct) {
+            refreshDay(key.userId(), key.day());
+        }
+    }
+
+    public void refreshDay(Long userId, LocalDate day) {
+        List<SetRowView> rows = exerciseResultRepository.findSetRows(
+                userId, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        rollupRepository.deleteByUserIdAndDay(userId, day);
+        rollupRepository.saveAll(fold(userId, rows));
+        log.debug("Refreshed rollups for user: {} on {}", userId, day);
+    }
+
+    /**
+     * Drop and rebuild every rollup row of a user from their raw sets
+     */
+    public int rebuildForUser(Long userId) {
+        rollupRepository.deleteByUserId(userId);
+        List<DailyExerciseRollup> rollups = fold(userId, exerciseResultRepository.findSetRows(userId, null, null));
+        rollupRepository.saveAll(rollups);
+        userDataVersionService.bump(userId);
+        analyticsCache.invalidate(userId);
+        log.info("Rebuilt {} rollup rows for user: {}", rollups.size(), userId);
+        return rollups.size();
+    }
+
+    private List<DailyExerciseRollup> fold(Long userId, List<SetRowView> rows) {
+        Map<DayKey, Map<Long, DailyExerciseRollup>> byDay = new LinkedHashMap<>();
+
+        for (SetRowView row : rows) {
+            // Sets of a workout without a date belong to no day
+            if (row.getPerformedAt() == null) {
+                continue;
+            }
+            LocalDate day = row.getPerformedAt().toLocalDate();
+            DailyExerciseRollup rollup = byDay
+                    .computeIfAbsent(new DayKey(userId, day), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getExerciseId(), exerciseId -> {
+                        DailyExerciseRollup created = new DailyExerciseRollup();
+                        created.setUserId(userId);
+                        created.setTrainingDay(day);
+                        created.setExercise(exerciseRepository.getReferenceById(exerciseId));
+                        return created;
+                    });
+
+            double weight = row.getWeight();
+            int reps = row.getReps();
+            rollup.setSetCount(rollup.getSetCount() + 1);
+            rollup.setRepCount(rollup.getRepCount() + reps);
+            rollup.setVolume(rollup.getVolume() + weight * reps);
+            rollup.setMaxWeight(Math.max(rollup.getMaxWeight(), weight));
+            rollup.setBestOneRepMax(Math.max(rollup.getBestOneRepMax(), AnalyticsService.calculateOneRepMax(weight, reps)));
+        }
+
+        List<DailyExerciseRollup> rollups = new ArrayList<>();
+        byDay.values().forEach(exercises -> rollups.addAll(exercises.values()));
+        return rollups;
+    }
+}
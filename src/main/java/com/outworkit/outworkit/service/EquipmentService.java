@@ -2,6 +2,7 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.EquipmentDTO;
 import com.outworkit.outworkit.entity.Equipment;
 import com.outworkit.outworkit.repository.EquipmentRepository;
 import jakarta.transaction.Transactional;
@@ -19,12 +20,14 @@ import java.util.Optional;
 @Transactional
 public class EquipmentService {
 
-    EquipmentRepository equipmentRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final ReferenceCatalogService referenceCatalogService;
 
-    public List<Equipment> getEquipments() {
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<EquipmentDTO> getEquipments() {
         try {
             log.debug("Getting equipments");
-            List<Equipment> equipments = equipmentRepository.findAll();
+            List<EquipmentDTO> equipments = referenceCatalogService.current().equipment().all();
             log.info("Equipments retrieved");
             return equipments;
         } catch (Exception e) {
@@ -33,7 +36,8 @@ public class EquipmentService {
         }
     }
 
-    public Equipment getEquipment(Long id){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public EquipmentDTO getEquipment(Long id){
 
         log.debug("Looking for equipment with ID: {}", id);
 
@@ -41,7 +45,7 @@ public class EquipmentService {
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return equipmentRepository.findById(id)
+        return referenceCatalogService.current().equipment().get(id)
                 .orElseThrow(() -> {
                     log.warn("Equipment not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -78,6 +82,7 @@ public class EquipmentService {
         }
 
         Equipment savedEquipment = equipmentRepository.save(equipment);
+        referenceCatalogService.invalidate();
         log.info("Equipment saved successfully ID: {}", savedEquipment.getId());
 
         return savedEquipment;
@@ -88,6 +93,7 @@ public class EquipmentService {
             throw new ResourceNotFoundException(String.format("Equipment not found with ID: %d", id));
         }
         equipmentRepository.deleteById(id);
+        referenceCatalogService.invalidate();
     }
 
     private void validateEquipment(Equipment equipment) {
@@ -103,9 +109,9 @@ public class EquipmentService {
             throw new BadRequestException("equipment name cant exceed 255");
         }
 
-        Optional<Equipment> existingEquipment = equipmentRepository.findByNameIgnoreCase(equipment.getName().trim());
+        Optional<Long> existingEquipment = referenceCatalogService.current().equipmentIdByName(equipment.getName().trim());
         if (existingEquipment.isPresent() &&
-                !existingEquipment.get().getId().equals(equipment.getId())) {
+                !existingEquipment.get().equals(equipment.getId())) {
             throw new BadRequestException(
                     String.format("Theres already an equipment with that name: %s", equipment.getName())
             );
@@ -2,13 +2,17 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.ExerciseResultDTO;
+import com.outworkit.outworkit.dto.KeysetPage;
 import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.entity.PersonalRecord;
 import com.outworkit.outworkit.repository.ExerciseResultRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -17,19 +21,30 @@ import java.util.List;
 @Transactional
 public class ExerciseResultService {
 
-    ExerciseResultRepository exerciseResultRepository;
-
-    public List<ExerciseResult> getExerciseResults(){
-        List<ExerciseResult> exerciseResults = exerciseResultRepository.findAll();
-        return exerciseResults;
+    private final ExerciseResultRepository exerciseResultRepository;
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+
+    /**
+     * One page of sets ordered by id, optionally filtered by workout exercise, exercise, user and workout date
+     */
+    public KeysetPage<ExerciseResultDTO> getExerciseResults(Long workoutExerciseId, Long exerciseId, Long userId,
+                                                         LocalDateTime startDate, LocalDateTime endDate,
+                                                         String cursor, int limit, boolean descending){
+        List<ExerciseResultDTO> rows = exerciseResultRepository.findPage(workoutExerciseId, exerciseId, userId,
+                startDate, endDate, IdCursor.decode(cursor), descending, IdCursor.request(limit, descending));
+        return IdCursor.page(rows, limit, ExerciseResultDTO::getId);
     }
 
-    public ExerciseResult getExerciseResult(Long id){
+    public ExerciseResultDTO getExerciseResult(Long id){
         if(id == null){
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return exerciseResultRepository.findById(id)
+        return exerciseResultRepository.findDtoById(id)
                 .orElseThrow(() -> {
                     log.warn("ExerciseResult not found with id {}", id);
                     return new RuntimeException(
@@ -44,17 +59,31 @@ public class ExerciseResultService {
 
         validateExerciseResult(exerciseResult);
 
+        boolean creating = exerciseResult.getId() == null;
+        DailyRollupService.DayKey previousDay = null;
         if(exerciseResult.getId() != null){
             if(!exerciseResultRepository.existsById(exerciseResult.getId())){
                 throw new BadRequestException(
                         String.format("Cannot update ExerciseResult. ExerciseResult with ID %d does not exist.", exerciseResult.getId())
                 );
             }
+            previousDay = dailyRollupService.keyOfResult(exerciseResult.getId());
         }else {
             log.info("Creating new ExerciseResult: {}", exerciseResult);
         }
 
         ExerciseResult savedExerciseResult = exerciseResultRepository.save(exerciseResult);
+        personalRecordService.onResultSaved(savedExerciseResult);
+        DailyRollupService.DayKey day = savedExerciseResult.getWorkoutExercise() != null ?
+                dailyRollupService.keyOfWorkoutExercise(savedExerciseResult.getWorkoutExercise().getId()) : null;
+        dailyRollupService.refresh(previousDay, day);
+        if (creating) {
+            setHistoryStore.onResultCreated(savedExerciseResult);
+        } else {
+            setHistoryStore.invalidate(previousDay, day);
+        }
+        userDataVersionService.bump(previousDay, day);
+        analyticsCache.invalidate(previousDay, day);
 
         log.info("ExerciseResult saved/updated successfully: {}", savedExerciseResult);
         return savedExerciseResult;
@@ -65,7 +94,14 @@ public class ExerciseResultService {
         if(!exerciseResultRepository.existsById(id)){
             throw new ResourceNotFoundException(String.format("Exercise result not found with ID: %d", id));
         }
+        List<PersonalRecord> heldRecords = personalRecordService.findHeldByResult(id);
+        DailyRollupService.DayKey day = dailyRollupService.keyOfResult(id);
         exerciseResultRepository.deleteById(id);
+        personalRecordService.recompute(heldRecords);
+        dailyRollupService.refresh(day);
+        setHistoryStore.invalidate(day);
+        userDataVersionService.bump(day);
+        analyticsCache.invalidate(day);
     }
 
 
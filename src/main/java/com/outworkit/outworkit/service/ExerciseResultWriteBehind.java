@@ -0,0 +1,298 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.controller.exception.ServiceUnavailableException;
+import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.repository.WorkoutBatchInserter;
+import com.outworkit.outworkit.repository.WorkoutExerciseRepository;
+import com.outworkit.outworkit.repository.WorkoutExerciseTargetView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional write-behind path for new sets ({@code outworkit.write-behind.enabled}).
+ * A set is validated and acknowledged, then queued in memory; a single writer thread inserts
+ * queued sets as JDBC batches of up to {@code batch-size} rows, or whatever arrived within
+ * {@code flush-interval} of the first one, and refreshes derived data once per batch.
+ * A full queue makes producers wait up to {@code offer-timeout} and then rejects with 503.
+ * On shutdown the queue stops accepting sets and is drained before the context closes.
+ * Publishes {@code outworkit.sets.queue.depth}, {@code outworkit.sets.flush} (batch write time),
+ * {@code outworkit.sets.flush.lag} (queue to commit of the oldest set of a batch) and
+ * {@code outworkit.sets.rejected} / {@code outworkit.sets.dropped} counters.
+ */
+@Slf4j
+@Service
+public class ExerciseResultWriteBehind {
+
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutBatchInserter workoutBatchInserter;
+    private final TransactionTemplate transactionTemplate;
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<PendingSet> queue;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Thread writer;
+
+    private volatile boolean accepting = true;
+
+    private record PendingSet(Long workoutExerciseId, Long userId, Long exerciseId, LocalDateTime workoutDate,
+                              int setNumber, int reps, double weight, long queuedAt) {
+    }
+
+    public ExerciseResultWriteBehind(WorkoutExerciseRepository workoutExerciseRepository,
+                                     WorkoutBatchInserter workoutBatchInserter,
+                                     TransactionTemplate transactionTemplate,
+                                     PersonalRecordService personalRecordService,
+                                     DailyRollupService dailyRollupService,
+                                     SetHistoryStore setHistoryStore,
+                                     AnalyticsCache analyticsCache,
+                                     UserDataVersionService userDataVersionService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${outworkit.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${outworkit.write-behind.capacity:10000}") int capacity,
+                                     @Value("${outworkit.write-behind.batch-size:500}") int batchSize,
+                                     @Value("${outworkit.write-behind.flush-interval:200ms}") Duration flushInterval,
+                                     @Value("${outworkit.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+                                     @Value("${outworkit.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.workoutBatchInserter = workoutBatchInserter;
+        this.transactionTemplate = transactionTemplate;
+        this.personalRecordService = personalRecordService;
+        this.dailyRollupService = dailyRollupService;
+        this.setHistoryStore = setHistoryStore;
+        this.analyticsCache = analyticsCache;
+        this.userDataVersionService = userDataVersionService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.rejected = meterRegistry.counter("outworkit.sets.rejected");
+        this.dropped = meterRegistry.counter("outworkit.sets.dropped");
+        meterRegistry.gauge("outworkit.sets.queue.depth", queue, BlockingQueue::size);
+
+        this.writer = enabled ? new CustomizableThreadFactory("set-writer-").newThread(this::run) : null;
+        if (writer != null) {
+            writer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Validate a new set and queue it; it is written within about one flush interval
+     */
+    public void submit(ExerciseResult result) {
+        if (result == null || result.getId() != null) {
+            throw new BadRequestException("Only new exercise results can be queued");
+        }
+        if (result.getWorkoutExercise() == null || result.getWorkoutExercise().getId() == null) {
+            throw new BadRequestException("workoutExercise id is required");
+        }
+        if (result.getReps() < 0 || result.getWeight() < 0 || Double.isNaN(result.getWeight())
+                || Double.isInfinite(result.getWeight())) {
+            throw new BadRequestException("reps and weight must be zero or positive");
+        }
+        Long workoutExerciseId = result.getWorkoutExercise().getId();
+        WorkoutExerciseTargetView target = workoutExerciseRepository.findTargetById(workoutExerciseId)
+                .orElseThrow(() -> new BadRequestException(
+                        String.format("WorkoutExercise with ID %d does not exist", workoutExerciseId)));
+        if (target.getUserId() == null || target.getExerciseId() == null) {
+            throw new BadRequestException(
+                    String.format("WorkoutExercise with ID %d has no user or exercise", workoutExerciseId));
+        }
+
+        PendingSet set = new PendingSet(workoutExerciseId, target.getUserId(), target.getExerciseId(),
+                target.getWorkoutDate(), result.getSetNumber(), result.getReps(), result.getWeight(), System.nanoTime());
+        boolean queued = false;
+        try {
+            queued = accepting && queue.offer(set, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queued) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Set queue is full, retry later");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // The writer sees the flag within a second, finishes its current batch and exits
+        accepting = false;
+        writer.join(shutdownTimeout.toMillis());
+        // Anything the writer did not get to is flushed here, before the data source goes away
+        List<PendingSet> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("Set write-behind stopped, flushed {} queued sets on shutdown", remaining.size());
+    }
+
+    private void run() {
+        List<PendingSet> batch = new ArrayList<>(batchSize);
+        while (accepting) {
+            try {
+                PendingSet first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize && accepting) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingSet next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            }
+            try {
+                flush(batch);
+            } catch (RuntimeException e) {
+                // Whatever went wrong, the writer must outlive the batch or the queue never drains again
+                dropped.increment(batch.size());
+                log.error("Dropped batch of {} queued sets", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Write a batch in one transaction; when that fails, rows are retried one by one
+     * and those that fail on their own (e.g. their workout exercise was deleted) are dropped
+     */
+    private void flush(List<PendingSet> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            outcome = "retried";
+            log.warn("Set batch of {} rows failed, retrying rows one by one", batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                PendingSet set = batch.get(i);
+                try {
+                    write(List.of(set));
+                } catch (DataIntegrityViolationException rowError) {
+                    dropped.increment();
+                    log.error("Dropped queued set {}: {}", set, rowError.getMessage());
+                } catch (DataAccessException | TransactionException rowError) {
+                    // The database is unavailable rather than rejecting the row; queue the rest again
+                    outcome = "error";
+                    log.error("Set writes failing, requeueing {} sets", batch.size() - i, rowError);
+                    requeue(batch.subList(i, batch.size()));
+                    break;
+                } catch (RuntimeException rowError) {
+                    dropped.increment();
+                    log.error("Dropped queued set {}", set, rowError);
+                }
+            }
+        }
+        sample.stop(meterRegistry.timer("outworkit.sets.flush", "outcome", outcome));
+    }
+
+    private void write(List<PendingSet> batch) {
+        long[] workoutExerciseIds = new long[batch.size()];
+        int[] setNumbers = new int[batch.size()];
+        int[] reps = new int[batch.size()];
+        double[] weights = new double[batch.size()];
+        Set<List<Long>> records = new LinkedHashSet<>();
+        Set<DailyRollupService.DayKey> days = new LinkedHashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        long oldest = Long.MAX_VALUE;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingSet set = batch.get(i);
+            workoutExerciseIds[i] = set.workoutExerciseId();
+            setNumbers[i] = set.setNumber();
+            reps[i] = set.reps();
+            weights[i] = set.weight();
+            records.add(List.of(set.userId(), set.exerciseId()));
+            userIds.add(set.userId());
+            if (set.workoutDate() != null) {
+                days.add(new DailyRollupService.DayKey(set.userId(), set.workoutDate().toLocalDate()));
+            }
+            oldest = Math.min(oldest, set.queuedAt());
+        }
+        DailyRollupService.DayKey[] dayKeys = days.toArray(DailyRollupService.DayKey[]::new);
+        Long[] users = userIds.toArray(Long[]::new);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            workoutBatchInserter.insertResults(workoutExerciseIds, setNumbers, reps, weights);
+            for (List<Long> record : records) {
+                personalRecordService.recompute(record.get(0), record.get(1));
+            }
+            dailyRollupService.refresh(dayKeys);
+            setHistoryStore.invalidate(dayKeys);
+            userDataVersionService.bump(users);
+            analyticsCache.invalidate(dayKeys);
+        });
+        meterRegistry.timer("outworkit.sets.flush.lag").record(System.nanoTime() - oldest, TimeUnit.NANOSECONDS);
+        log.debug("Flushed {} queued sets", batch.size());
+    }
+
+    private void requeue(List<PendingSet> sets) {
+        if (accepting) {
+            try {
+                Thread.sleep(flushInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (PendingSet set : sets) {
+            // Once shutting down nothing drains the queue again, so the sets are lost
+            if (!accepting || !queue.offer(set)) {
+                dropped.increment();
+                log.error("Dropped queued set {}", set);
+            }
+        }
+    }
+}
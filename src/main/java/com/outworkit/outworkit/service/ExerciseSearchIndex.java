@@ -0,0 +1,197 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ExerciseDTO;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable search index over exercises, built with every {@link ReferenceCatalog} snapshot.
+ * Words of the exercise name and of its equipment and muscle group names go into one sorted term
+ * dictionary with posting lists, so a prefix is a binary search and a scan of its range; words with
+ * no exact or prefix hit are matched within a small edit distance, including typos in a partly typed word.
+ * Every query word must match; exercises are ranked by how well the words matched and in which field.
+ */
+final class ExerciseSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final int NAME = 0;
+    private static final int EQUIPMENT = 1;
+    private static final int MUSCLE_GROUP = 2;
+    private static final double[] FIELD_WEIGHT = {1.0, 0.6, 0.6};
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.75;
+    private static final double[] TYPO = {0, 0.5, 0.25};
+    private static final double NAME_PREFIX_BONUS = 0.5;
+    private static final int MAX_QUERY_WORDS = 8;
+
+    private final ExerciseDTO[] exercises;
+    private final String[] names;
+    private final String[] terms;
+    // Per term, the exercises it occurs in as (exercise index << 2 | field)
+    private final int[][] postings;
+
+    ExerciseSearchIndex(List<ExerciseDTO> exercises, Map<Long, String> equipmentNames, Map<Long, String> muscleGroupNames) {
+        this.exercises = exercises.toArray(ExerciseDTO[]::new);
+        this.names = new String[this.exercises.length];
+        TreeMap<String, Set<Integer>> index = new TreeMap<>();
+        for (int i = 0; i < this.exercises.length; i++) {
+            ExerciseDTO exercise = this.exercises[i];
+            names[i] = normalize(exercise.getName());
+            add(index, names[i], i, NAME);
+            add(index, normalize(equipmentNames.get(exercise.getEquipmentId())), i, EQUIPMENT);
+            add(index, normalize(muscleGroupNames.get(exercise.getMuscleGroupId())), i, MUSCLE_GROUP);
+        }
+        this.terms = index.keySet().toArray(String[]::new);
+        this.postings = new int[terms.length][];
+        int t = 0;
+        for (Set<Integer> posting : index.values()) {
+            postings[t++] = posting.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    int terms() {
+        return terms.length;
+    }
+
+    /**
+     * Best matches first; ties go to the shorter name, then alphabetically
+     */
+    List<ExerciseDTO> search(String query, int limit) {
+        String[] words = words(normalize(query));
+        if (words.length == 0) {
+            return List.of();
+        }
+        double[] total = new double[exercises.length];
+        double[] best = new double[exercises.length];
+        for (int w = 0; w < Math.min(words.length, MAX_QUERY_WORDS); w++) {
+            Arrays.fill(best, 0);
+            match(words[w], best);
+            for (int i = 0; i < total.length; i++) {
+                // A word without any match rules the exercise out
+                total[i] = best[i] > 0 && total[i] >= 0 ? total[i] + best[i] : -1;
+            }
+        }
+
+        String phrase = String.join(" ", words);
+        List<Integer> hits = new ArrayList<>();
+        for (int i = 0; i < total.length; i++) {
+            if (total[i] > 0) {
+                if (names[i].startsWith(phrase)) {
+                    total[i] += NAME_PREFIX_BONUS;
+                }
+                hits.add(i);
+            }
+        }
+        hits.sort(Comparator.<Integer>comparingDouble(i -> -total[i])
+                .thenComparingInt(i -> names[i].length())
+                .thenComparing(i -> names[i]));
+        return hits.stream().limit(limit).map(i -> exercises[i]).toList();
+    }
+
+    /**
+     * Score every exercise on its best match of one query word
+     */
+    private void match(String word, double[] best) {
+        int from = lowerBound(word);
+        boolean found = false;
+        for (int t = from; t < terms.length && terms[t].startsWith(word); t++) {
+            score(t, terms[t].length() == word.length() ? EXACT : PREFIX, best);
+            found = true;
+        }
+        int maxEdits = maxEdits(word.length());
+        if (found || maxEdits == 0) {
+            return;
+        }
+        for (int t = 0; t < terms.length; t++) {
+            int edits = prefixDistance(word, terms[t], maxEdits);
+            if (edits <= maxEdits) {
+                score(t, TYPO[edits], best);
+            }
+        }
+    }
+
+    private void score(int term, double match, double[] best) {
+        for (int posting : postings[term]) {
+            int exercise = posting >>> 2;
+            best[exercise] = Math.max(best[exercise], match * FIELD_WEIGHT[posting & 3]);
+        }
+    }
+
+    private int lowerBound(String word) {
+        int index = Arrays.binarySearch(terms, word);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    static int maxEdits(int length) {
+        return length <= 3 ? 0 : length <= 6 ? 1 : 2;
+    }
+
+    /**
+     * Fewest edits (insertions, deletions, substitutions, adjacent swaps) turning the word into some
+     * prefix of the term, or max + 1 once that is certain to exceed max
+     */
+    static int prefixDistance(String word, String term, int max) {
+        int m = word.length();
+        int n = term.length();
+        if (n < m - max) {
+            return max + 1;
+        }
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+        int[] beforePrevious = new int[n + 1];
+        for (int j = 0; j <= n; j++) {
+            current[j] = j;
+        }
+        for (int i = 1; i <= m; i++) {
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= n; j++) {
+                int cost = word.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && word.charAt(i - 1) == term.charAt(j - 2) && word.charAt(i - 2) == term.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+        }
+        int distance = Integer.MAX_VALUE;
+        for (int j = 0; j <= n; j++) {
+            distance = Math.min(distance, current[j]);
+        }
+        return Math.min(distance, max + 1);
+    }
+
+    /**
+     * Lower case without accents, words separated by single spaces
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String plain = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return String.join(" ", words(plain.toLowerCase(Locale.ROOT)));
+    }
+
+    private static String[] words(String text) {
+        return Arrays.stream(NON_WORD.split(text)).filter(word -> !word.isEmpty()).toArray(String[]::new);
+    }
+
+    private static void add(TreeMap<String, Set<Integer>> index, String text, int exercise, int field) {
+        for (String word : words(text)) {
+            index.computeIfAbsent(word, w -> new TreeSet<>()).add(exercise << 2 | field);
+        }
+    }
+}
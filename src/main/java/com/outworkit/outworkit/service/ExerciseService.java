@@ -2,6 +2,7 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.ExerciseDTO;
 import com.outworkit.outworkit.entity.Exercise;
 import com.outworkit.outworkit.repository.ExerciseRepository;
 import jakarta.transaction.Transactional;
@@ -19,19 +20,22 @@ import java.util.Optional;
 @Transactional
 public class ExerciseService {
 
-    ExerciseRepository exerciseRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final ReferenceCatalogService referenceCatalogService;
 
-    public List<Exercise> getExercises(){
-        List<Exercise> exercises = exerciseRepository.findAll();
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<ExerciseDTO> getExercises(){
+        List<ExerciseDTO> exercises = referenceCatalogService.current().exercises().all();
         return exercises;
     }
 
-    public Exercise getExercise(Long id){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public ExerciseDTO getExercise(Long id){
         if(id == null){
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return exerciseRepository.findById(id)
+        return referenceCatalogService.current().exercises().get(id)
                 .orElseThrow(() -> {
                     log.warn("Equipment not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -40,6 +44,14 @@ public class ExerciseService {
                 });
     }
 
+    /**
+     * Exercises matching a partly typed query by name, equipment or muscle group, best first
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<ExerciseDTO> searchExercises(String query, int limit){
+        return referenceCatalogService.current().searchIndex().search(query, limit);
+    }
+
     public Optional<Exercise> findExerciseById(Long exerciseId){
         log.debug("Seaching for exercise with id: {}", exerciseId);
 
@@ -67,6 +79,7 @@ public class ExerciseService {
         }
 
         Exercise savedExercise = exerciseRepository.save(exercise);
+        referenceCatalogService.invalidate();
         log.info("Exercise saved succesfully with ID: {}", savedExercise.getId());
         return savedExercise;
     }
@@ -77,6 +90,7 @@ public class ExerciseService {
         }
 
         exerciseRepository.deleteById(id);
+        referenceCatalogService.invalidate();
     }
 
     private void validateExercise(Exercise exercise){
@@ -100,9 +114,9 @@ public class ExerciseService {
             throw new BadRequestException("Exercise muscle group is required");
         }
 
-        Optional<Exercise> existingEquipment = exerciseRepository.findByNameIgnoreCase(exercise.getName().trim());
+        Optional<Long> existingEquipment = referenceCatalogService.current().exerciseIdByName(exercise.getName().trim());
         if (existingEquipment.isPresent() &&
-                !existingEquipment.get().getId().equals(exercise.getId())) {
+                !existingEquipment.get().equals(exercise.getId())) {
             throw new BadRequestException(
                     String.format("Theres already an equipment with that name: %s", exercise.getName())
             );
@@ -0,0 +1,54 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset paging over primary keys for the collection endpoints.
+ * The cursor is the opaque id of the last row of the previous page; repositories filter with
+ * {@link com.outworkit.outworkit.repository.IdKeyset} and read one row past the page to know
+ * whether another page follows.
+ */
+final class IdCursor {
+
+    private IdCursor() {
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Pageable request(int limit, boolean descending) {
+        return PageRequest.of(0, limit + 1, descending ? Sort.by("id").descending() : Sort.by("id"));
+    }
+
+    static <T> KeysetPage<T> page(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return KeysetPage.<T>builder().items(rows).build();
+        }
+        List<T> items = rows.subList(0, limit);
+        return KeysetPage.<T>builder()
+                .items(items)
+                .nextCursor(encode(idOf.apply(items.get(limit - 1))))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.outworkit.outworkit.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Every lifter of one exercise ordered by score (estimated 1RM), highest first, ties by user id.
+ * Scores and user ids are kept in parallel sorted arrays, so a rank is a binary search and a page
+ * is a slice; an update moves the tail of the arrays by one slot.
+ * Not thread-safe; {@link LeaderboardService} guards each instance with its monitor.
+ */
+final class Leaderboard {
+
+    private double[] scores = new double[8];
+    private long[] userIds = new long[8];
+    private int size;
+    private final Map<Long, Double> scoreByUser = new HashMap<>();
+
+    int size() {
+        return size;
+    }
+
+    double score(int index) {
+        return scores[index];
+    }
+
+    long userId(int index) {
+        return userIds[index];
+    }
+
+    Double scoreOf(long userId) {
+        return scoreByUser.get(userId);
+    }
+
+    /**
+     * Set or replace the score of a user
+     */
+    void put(long userId, double score) {
+        remove(userId);
+        if (size == scores.length) {
+            int grown = size + (size >> 1) + 1;
+            scores = Arrays.copyOf(scores, grown);
+            userIds = Arrays.copyOf(userIds, grown);
+        }
+        int index = position(score, userId);
+        System.arraycopy(scores, index, scores, index + 1, size - index);
+        System.arraycopy(userIds, index, userIds, index + 1, size - index);
+        scores[index] = score;
+        userIds[index] = userId;
+        size++;
+        scoreByUser.put(userId, score);
+    }
+
+    void remove(long userId) {
+        Double score = scoreByUser.remove(userId);
+        if (score == null) {
+            return;
+        }
+        int index = position(score, userId);
+        System.arraycopy(scores, index + 1, scores, index, size - index - 1);
+        System.arraycopy(userIds, index + 1, userIds, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Competition rank of a score: one more than the number of strictly higher scores
+     */
+    int rankOf(double score) {
+        return position(score, Long.MIN_VALUE) + 1;
+    }
+
+    /**
+     * Index at which (score, userId) sits or would be inserted
+     */
+    private int position(double score, long userId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scores[mid] > score || (scores[mid] == score && userIds[mid] < userId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
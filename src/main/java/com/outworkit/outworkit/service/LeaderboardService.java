@@ -0,0 +1,165 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.LeaderboardPageDTO;
+import com.outworkit.outworkit.dto.LeaderboardRankDTO;
+import com.outworkit.outworkit.entity.Exercise;
+import com.outworkit.outworkit.entity.PersonalRecord;
+import com.outworkit.outworkit.entity.User;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.PersonalRecordRepository;
+import com.outworkit.outworkit.repository.RecordScoreView;
+import com.outworkit.outworkit.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link Leaderboard} per exercise over users' personal record 1RMs.
+ * Loaded from the personal record table on startup and kept current by {@link PersonalRecordService},
+ * which reports every record it saves or removes; changes apply once their transaction commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+
+    private volatile Map<Long, Leaderboard> boards = new ConcurrentHashMap<>();
+    // Bumped on every applied change so a load racing with writes is retried
+    private long writeEpoch;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long epoch;
+            synchronized (this) {
+                epoch = writeEpoch;
+            }
+
+            Map<Long, Leaderboard> loaded = new ConcurrentHashMap<>();
+            List<RecordScoreView> scores = personalRecordRepository.findAllScores();
+            for (RecordScoreView score : scores) {
+                loaded.computeIfAbsent(score.getExerciseId(), id -> new Leaderboard())
+                        .put(score.getUserId(), score.getOneRepMax());
+            }
+
+            synchronized (this) {
+                if (epoch == writeEpoch) {
+                    boards = loaded;
+                    log.info("Loaded leaderboards for {} exercises from {} personal records", loaded.size(), scores.size());
+                    return;
+                }
+            }
+        }
+        log.warn("Leaderboards kept changing during load; they will converge as records are written");
+    }
+
+    public void onRecordSaved(PersonalRecord pr) {
+        long userId = pr.getUserId();
+        long exerciseId = pr.getExercise().getId();
+        double score = pr.getScore();
+        apply(() -> {
+            Leaderboard board = boards.computeIfAbsent(exerciseId, id -> new Leaderboard());
+            synchronized (board) {
+                board.put(userId, score);
+            }
+        });
+    }
+
+    public void onRecordRemoved(Long userId, Long exerciseId) {
+        apply(() -> {
+            Leaderboard board = boards.get(exerciseId);
+            if (board != null) {
+                synchronized (board) {
+                    board.remove(userId);
+                }
+            }
+        });
+    }
+
+    public void onUserRemoved(Long userId) {
+        apply(() -> boards.values().forEach(board -> {
+            synchronized (board) {
+                board.remove(userId);
+            }
+        }));
+    }
+
+    public LeaderboardPageDTO getPage(Long exerciseId, int page, int size) {
+        Exercise exercise = exerciseRepository.findById(exerciseId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Exercise not found with ID: %d", exerciseId)));
+
+        List<LeaderboardPageDTO.Entry> entries = new ArrayList<>();
+        int total = 0;
+        Leaderboard board = boards.get(exerciseId);
+        if (board != null) {
+            synchronized (board) {
+                total = board.size();
+                long from = (long) page * size;
+                for (int i = (int) Math.min(from, total); i < Math.min(from + size, total); i++) {
+                    double score = board.score(i);
+                    entries.add(LeaderboardPageDTO.Entry.builder()
+                            .rank(board.rankOf(score))
+                            .userId(board.userId(i))
+                            .oneRepMax(score)
+                            .build());
+                }
+            }
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(entries.stream().map(LeaderboardPageDTO.Entry::getUserId).toList())) {
+            names.put(user.getId(), user.getUserName());
+        }
+        entries.forEach(entry -> entry.setUserName(names.get(entry.getUserId())));
+
+        return LeaderboardPageDTO.builder()
+                .exerciseId(exerciseId)
+                .exerciseName(exercise.getName())
+                .totalLifters(total)
+                .page(page)
+                .size(size)
+                .entries(entries)
+                .build();
+    }
+
+    public LeaderboardRankDTO getRank(Long exerciseId, Long userId) {
+        Leaderboard board = boards.get(exerciseId);
+        if (board != null) {
+            synchronized (board) {
+                Double score = board.scoreOf(userId);
+                if (score != null) {
+                    return LeaderboardRankDTO.builder()
+                            .exerciseId(exerciseId)
+                            .userId(userId)
+                            .rank(board.rankOf(score))
+                            .totalLifters(board.size())
+                            .oneRepMax(score)
+                            .build();
+                }
+            }
+        }
+        throw new ResourceNotFoundException(
+                String.format("User %d has no record on the leaderboard of exercise %d", userId, exerciseId));
+    }
+
+    private void apply(Runnable change) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                writeEpoch++;
+            }
+            change.run();
+        });
+    }
+}
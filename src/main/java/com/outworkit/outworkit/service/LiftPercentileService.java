@@ -0,0 +1,340 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.LiftPercentileDTO;
+import com.outworkit.outworkit.entity.OneRepMaxSketchCheckpoint;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.OneRepMaxSketchCheckpointRepository;
+import com.outworkit.outworkit.repository.PersonalRecordRepository;
+import com.outworkit.outworkit.repository.RecordScoreView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentile of a 1RM among the personal records of all users, from a {@link OneRepMaxSketch} per exercise.
+ * Each instance answers from the last checkpoint plus its own changes since, and every
+ * {@code outworkit.percentiles.checkpoint-interval} merges those changes into the checkpoint rows
+ * under a row lock and reloads them, picking up the changes of other instances.
+ * The sketches are seeded from the personal records table when no checkpoint exists yet.
+ */
+@Slf4j
+@Service
+public class LiftPercentileService {
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+    private static final long COMMIT_WAIT_MILLIS = 5_000;
+
+    private final OneRepMaxSketchCheckpointRepository checkpointRepository;
+    private final PersonalRecordRepository personalRecordRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration checkpointInterval;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("lift-percentiles-"));
+
+    // Guarded by this: the checkpoint plus local changes, and the local changes not yet checkpointed
+    private final Map<Long, OneRepMaxSketch> live = new HashMap<>();
+    private Map<Long, OneRepMaxSketch> pending = new HashMap<>();
+    // Guarded by this: rebuild time of each checkpoint row as last loaded, to spot rows rebuilt since
+    private final Map<Long, LocalDateTime> loadedRebuilds = new HashMap<>();
+    // Bumped on every applied change so a rebuild racing with writes is retried
+    private long writeEpoch;
+    // Changes whose transaction is committing: a rebuild may already read them before they are applied
+    private int committing;
+
+    // Serializes checkpoint, refresh and rebuild
+    private final Object checkpointLock = new Object();
+
+    public LiftPercentileService(OneRepMaxSketchCheckpointRepository checkpointRepository,
+                                 PersonalRecordRepository personalRecordRepository,
+                                 ExerciseRepository exerciseRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${outworkit.percentiles.checkpoint-interval:1m}") Duration checkpointInterval) {
+        this.checkpointRepository = checkpointRepository;
+        this.personalRecordRepository = personalRecordRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (checkpointRepository.count() == 0) {
+            rebuild();
+        } else {
+            refresh();
+        }
+        long intervalMillis = checkpointInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkpointQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        checkpointQuietly();
+    }
+
+    /**
+     * Record that the personal record 1RM of a user changed; null when there was none before or is none after
+     */
+    public void onScoreChanged(Long exerciseId, Double previous, Double current) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyChange(exerciseId, previous, current);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (LiftPercentileService.this) {
+                    committing++;
+                    counted = true;
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                applyChange(exerciseId, previous, current);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (LiftPercentileService.this) {
+                    if (counted) {
+                        committing--;
+                        writeEpoch++;
+                        LiftPercentileService.this.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    public LiftPercentileDTO getUserPercentile(Long exerciseId, Long userId) {
+        double oneRepMax = personalRecordRepository.findByUserIdAndExerciseId(userId, exerciseId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("User %d has no personal record for exercise %d", userId, exerciseId)))
+                .getScore();
+        LiftPercentileDTO percentile = getPercentile(exerciseId, oneRepMax);
+        percentile.setUserId(userId);
+        return percentile;
+    }
+
+    public LiftPercentileDTO getPercentile(Long exerciseId, double oneRepMax) {
+        if (!exerciseRepository.existsById(exerciseId)) {
+            throw new ResourceNotFoundException(String.format("Exercise not found with ID: %d", exerciseId));
+        }
+
+        long lifters;
+        long below;
+        long at;
+        synchronized (this) {
+            OneRepMaxSketch sketch = live.getOrDefault(exerciseId, new OneRepMaxSketch());
+            lifters = sketch.count();
+            below = sketch.countBelow(oneRepMax);
+            at = sketch.countAt(oneRepMax);
+        }
+
+        LiftPercentileDTO.LiftPercentileDTOBuilder percentile = LiftPercentileDTO.builder()
+                .exerciseId(exerciseId)
+                .oneRepMax(oneRepMax)
+                .lifters(lifters);
+        if (lifters > 0) {
+            // The exact rank is somewhere among the lifters sharing the bucket; report the middle
+            percentile.percentile(round((below + at / 2.0) * 100 / lifters))
+                    .errorBound(round(at / 2.0 * 100 / lifters));
+        }
+        return percentile.build();
+    }
+
+    /**
+     * Merge local changes into the checkpoint rows, then reload them; returns the number of exercises written.
+     * Changes to a row rebuilt since it was last loaded are dropped, the rebuild has already counted them.
+     */
+    public int checkpoint() {
+        synchronized (checkpointLock) {
+            Map<Long, OneRepMaxSketch> delta;
+            Map<Long, LocalDateTime> loaded;
+            synchronized (this) {
+                delta = pending;
+                pending = new HashMap<>();
+                loaded = new HashMap<>(loadedRebuilds);
+            }
+            delta.values().removeIf(OneRepMaxSketch::isEmpty);
+
+            List<Long> stale = new ArrayList<>();
+            if (!delta.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        stale.clear();
+                        LocalDateTime now = LocalDateTime.now();
+                        for (Map.Entry<Long, OneRepMaxSketch> change : delta.entrySet()) {
+                            Optional<OneRepMaxSketchCheckpoint> existing = checkpointRepository.findForUpdate(change.getKey());
+                            LocalDateTime rebuiltAt = existing.map(OneRepMaxSketchCheckpoint::getRebuiltAt).orElse(null);
+                            if (!Objects.equals(rebuiltAt, loaded.get(change.getKey()))
+                                    || existing.isEmpty() && loaded.containsKey(change.getKey())) {
+                                stale.add(change.getKey());
+                                continue;
+                            }
+                            OneRepMaxSketchCheckpoint checkpoint = existing.orElseGet(() -> {
+                                OneRepMaxSketchCheckpoint created = new OneRepMaxSketchCheckpoint();
+                                created.setExerciseId(change.getKey());
+                                return created;
+                            });
+                            OneRepMaxSketch merged = OneRepMaxSketch.fromBytes(checkpoint.getBuckets());
+                            merged.merge(change.getValue());
+                            checkpoint.setBuckets(merged.toBytes());
+                            checkpoint.setLifters(merged.count());
+                            checkpoint.setUpdatedAt(now);
+                            checkpointRepository.save(checkpoint);
+                        }
+                    });
+                } catch (DataAccessException | TransactionException e) {
+                    // Keep the changes for the next checkpoint
+                    synchronized (this) {
+                        delta.forEach((exerciseId, change) ->
+                                pending.computeIfAbsent(exerciseId, id -> new OneRepMaxSketch()).merge(change));
+                    }
+                    throw e;
+                }
+            }
+
+            if (!stale.isEmpty()) {
+                log.info("Dropped 1RM sketch changes of exercises {} predating a rebuild", stale);
+            }
+            refresh();
+            log.debug("Checkpointed 1RM sketches of {} exercises", delta.size() - stale.size());
+            return delta.size() - stale.size();
+        }
+    }
+
+    /**
+     * Replace every checkpoint with sketches built from the personal records table; returns the number of exercises.
+     * The table already holds the changes other instances have not checkpointed yet, so those instances drop
+     * them at their next checkpoint, together with any they made before reloading the rebuilt rows.
+     */
+    public int rebuild() {
+        synchronized (checkpointLock) {
+            for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+                long epoch;
+                synchronized (this) {
+                    awaitCommits();
+                    epoch = writeEpoch;
+                }
+
+                Map<Long, OneRepMaxSketch> rebuilt = new HashMap<>();
+                for (RecordScoreView score : personalRecordRepository.findAllScores()) {
+                    rebuilt.computeIfAbsent(score.getExerciseId(), id -> new OneRepMaxSketch()).add(score.getOneRepMax());
+                }
+
+                synchronized (this) {
+                    // A change committing meanwhile may be in the scores read and still be applied on top
+                    if (epoch != writeEpoch || committing > 0) {
+                        continue;
+                    }
+                    pending = new HashMap<>();
+                }
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    // Exercises left without records keep an empty row, marking their old changes as stale too
+                    for (OneRepMaxSketchCheckpoint previous : checkpointRepository.findAll()) {
+                        rebuilt.computeIfAbsent(previous.getExerciseId(), id -> new OneRepMaxSketch());
+                    }
+                    checkpointRepository.deleteAllInBatch();
+                    LocalDateTime now = LocalDateTime.now();
+                    List<OneRepMaxSketchCheckpoint> checkpoints = new ArrayList<>();
+                    rebuilt.forEach((exerciseId, sketch) -> {
+                        OneRepMaxSketchCheckpoint checkpoint = new OneRepMaxSketchCheckpoint();
+                        checkpoint.setExerciseId(exerciseId);
+                        checkpoint.setBuckets(sketch.toBytes());
+                        checkpoint.setLifters(sketch.count());
+                        checkpoint.setUpdatedAt(now);
+                        checkpoint.setRebuiltAt(now);
+                        checkpoints.add(checkpoint);
+                    });
+                    checkpointRepository.saveAll(checkpoints);
+                });
+                refresh();
+                log.info("Rebuilt 1RM sketches of {} exercises from personal records", rebuilt.size());
+                return rebuilt.size();
+            }
+            log.warn("1RM sketches kept changing during rebuild; keeping the current checkpoint");
+            refresh();
+            return 0;
+        }
+    }
+
+    private void refresh() {
+        List<OneRepMaxSketchCheckpoint> checkpoints = checkpointRepository.findAll();
+        synchronized (this) {
+            live.clear();
+            loadedRebuilds.clear();
+            for (OneRepMaxSketchCheckpoint checkpoint : checkpoints) {
+                live.put(checkpoint.getExerciseId(), OneRepMaxSketch.fromBytes(checkpoint.getBuckets()));
+                loadedRebuilds.put(checkpoint.getExerciseId(), checkpoint.getRebuiltAt());
+            }
+            pending.forEach((exerciseId, change) ->
+                    live.computeIfAbsent(exerciseId, id -> new OneRepMaxSketch()).merge(change));
+        }
+    }
+
+    private synchronized void applyChange(Long exerciseId, Double previous, Double current) {
+        writeEpoch++;
+        apply(live.computeIfAbsent(exerciseId, id -> new OneRepMaxSketch()), previous, current);
+        apply(pending.computeIfAbsent(exerciseId, id -> new OneRepMaxSketch()), previous, current);
+    }
+
+    /**
+     * Wait, holding this, until no change is committing or the wait times out
+     */
+    private void awaitCommits() {
+        long deadline = System.currentTimeMillis() + COMMIT_WAIT_MILLIS;
+        try {
+            for (long remaining = COMMIT_WAIT_MILLIS; committing > 0 && remaining > 0;
+                 remaining = deadline - System.currentTimeMillis()) {
+                wait(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.warn("1RM sketch checkpoint failed, retrying at the next one", e);
+        }
+    }
+
+    private static void apply(OneRepMaxSketch sketch, Double previous, Double current) {
+        if (previous != null) {
+            sketch.remove(previous);
+        }
+        if (current != null) {
+            sketch.add(current);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
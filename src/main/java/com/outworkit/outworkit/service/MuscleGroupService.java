@@ -2,14 +2,12 @@ package com.outworkit.outworkit.service;
 
 import org.springframework.stereotype.Service;
 
-import com.outworkit.outworkit.repository.MuscleGroupRepository;
-
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
-import com.outworkit.outworkit.entity.MuscleGroup;
+import com.outworkit.outworkit.dto.MuscleGroupDTO;
 import java.util.List;
 
 @Slf4j
@@ -18,23 +16,25 @@ import java.util.List;
 @Transactional
 public class MuscleGroupService {
     
-    MuscleGroupRepository muscleGroupRepository;
+    private final ReferenceCatalogService referenceCatalogService;
 
-    public List<MuscleGroup> getAllMuscleGroups(){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<MuscleGroupDTO> getAllMuscleGroups(){
         try{
-            return muscleGroupRepository.findAll();
+            return referenceCatalogService.current().muscleGroups().all();
         }catch(Exception e){
             log.error("Error retrieving muscle groups", e);
             throw e;
         }
     }
 
-    public MuscleGroup getMuscleGroupById(Long id){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public MuscleGroupDTO getMuscleGroupById(Long id){
         if(id == null){
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return muscleGroupRepository.findById(id).orElseThrow(() -> {
+        return referenceCatalogService.current().muscleGroups().get(id).orElseThrow(() -> {
             log.warn("Muscle group not found with id {}", id);
             return new ResourceNotFoundException(
                     String.format("Muscle group not found with ID: %d", id)
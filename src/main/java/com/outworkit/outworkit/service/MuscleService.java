@@ -2,6 +2,7 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.MuscleDTO;
 import com.outworkit.outworkit.entity.Muscle;
 import com.outworkit.outworkit.repository.MuscleRepository;
 import jakarta.transaction.Transactional;
@@ -19,11 +20,13 @@ import java.util.Optional;
 public class MuscleService {
     
     private final MuscleRepository muscleRepository;
+    private final ReferenceCatalogService referenceCatalogService;
 
-    public List<Muscle> getAllMuscles() {
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<MuscleDTO> getAllMuscles() {
         try {
             log.debug("Getting muscles");
-            List<Muscle> muscles = muscleRepository.findAll();
+            List<MuscleDTO> muscles = referenceCatalogService.current().muscles().all();
             log.info("Muscles retrieved");
             return muscles;
         } catch (Exception e) {
@@ -32,14 +35,15 @@ public class MuscleService {
         }
     }
 
-    public Muscle getMuscleById(Long id) {
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public MuscleDTO getMuscleById(Long id) {
         log.debug("Looking for muscle with ID: {}", id);
 
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return muscleRepository.findById(id)
+        return referenceCatalogService.current().muscles().get(id)
                 .orElseThrow(() -> {
                     log.warn("Muscle not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -76,6 +80,7 @@ public class MuscleService {
         }
 
         Muscle savedMuscle = muscleRepository.save(muscle);
+        referenceCatalogService.invalidate();
         log.info("Muscle saved successfully ID: {}", savedMuscle.getId());
 
         return savedMuscle;
@@ -86,6 +91,7 @@ public class MuscleService {
             throw new ResourceNotFoundException(String.format("Muscle not found with ID: %d", id));
         }
         muscleRepository.deleteById(id);
+        referenceCatalogService.invalidate();
     }
 
     private void validateMuscle(Muscle muscle) {
@@ -0,0 +1,113 @@
+package com.outworkit.outworkit.service;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch of 1RM values with relative accuracy {@link #RELATIVE_ACCURACY}.
+ * Values are counted in logarithmic buckets whose bounds grow by a factor of
+ * (1 + a) / (1 - a), so every value of a bucket is within a of the bucket's center.
+ * Counts are exact and signed: a sketch can hold removals, two sketches merge by adding counts,
+ * and a delta of pending changes is itself a sketch.
+ * With 1RMs from 1 to 1000 the sketch holds at most about 350 buckets. Not thread-safe.
+ */
+final class OneRepMaxSketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+    private static final double LOG_GAMMA = Math.log((1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY));
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    // Values of zero (or less), which have no logarithmic bucket
+    private long zeroCount;
+    private long count;
+
+    long count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return zeroCount == 0 && buckets.isEmpty();
+    }
+
+    void add(double value) {
+        add(value, 1);
+    }
+
+    void remove(double value) {
+        add(value, -1);
+    }
+
+    void merge(OneRepMaxSketch other) {
+        zeroCount += other.zeroCount;
+        count += other.zeroCount;
+        for (Map.Entry<Integer, Long> bucket : other.buckets.entrySet()) {
+            addToBucket(bucket.getKey(), bucket.getValue());
+        }
+    }
+
+    /**
+     * Number of values in buckets strictly below the bucket of the given value
+     */
+    long countBelow(double value) {
+        if (value <= 0) {
+            return 0;
+        }
+        long below = zeroCount;
+        for (long n : buckets.headMap(bucketOf(value)).values()) {
+            below += n;
+        }
+        return below;
+    }
+
+    /**
+     * Number of values sharing a bucket with the given value, i.e. within the relative accuracy of it
+     */
+    long countAt(double value) {
+        return value <= 0 ? zeroCount : buckets.getOrDefault(bucketOf(value), 0L);
+    }
+
+    byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + buckets.size() * (Integer.BYTES + Long.BYTES));
+        buffer.putLong(zeroCount);
+        buffer.putInt(buckets.size());
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            buffer.putInt(bucket.getKey());
+            buffer.putLong(bucket.getValue());
+        }
+        return buffer.array();
+    }
+
+    static OneRepMaxSketch fromBytes(byte[] bytes) {
+        OneRepMaxSketch sketch = new OneRepMaxSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        sketch.zeroCount = buffer.getLong();
+        sketch.count = sketch.zeroCount;
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            sketch.addToBucket(buffer.getInt(), buffer.getLong());
+        }
+        return sketch;
+    }
+
+    private void add(double value, long n) {
+        if (value <= 0) {
+            zeroCount += n;
+            count += n;
+        } else {
+            addToBucket(bucketOf(value), n);
+        }
+    }
+
+    private void addToBucket(int index, long n) {
+        count += n;
+        buckets.merge(index, n, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static int bucketOf(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+}
@@ -0,0 +1,384 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.PersonalRecordConsistencyDTO;
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.entity.*;
+import com.outworkit.outworkit.metrics.EntityVisits;
+import com.outworkit.outworkit.repository.ExerciseResultRepository;
+import com.outworkit.outworkit.repository.PersonalRecordRepository;
+import com.outworkit.outworkit.repository.SetRowView;
+import com.outworkit.outworkit.repository.UserExerciseView;
+import com.outworkit.outworkit.repository.WorkoutExerciseRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the materialized personal-record table.
+ * Writes are applied incrementally; deletes of the current best fall back to a single indexed recompute.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class PersonalRecordService {
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final ExerciseResultRepository exerciseResultRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+    private final LeaderboardService leaderboardService;
+    private final LiftPercentileService liftPercentileService;
+
+    /**
+     * One user's record for one exercise, the unit records are recomputed in
+     */
+    public record RecordKey(Long userId, Long exerciseId) {
+    }
+
+    public List<PersonalRecordDTO> getUserPersonalRecords(Long userId) {
+        return personalRecordRepository.findByUserId(userId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    public PersonalRecordDTO getExercisePersonalRecord(Long userId, Long exerciseId) {
+        return personalRecordRepository.findByUserIdAndExerciseId(userId, exerciseId)
+                .map(this::toDTO)
+                .orElse(null);
+    }
+
+    /**
+     * Exercises whose current record was set in the given workout, resolved with one query
+     */
+    public Set<Long> findRecordExerciseIds(Long workoutId) {
+        return personalRecordRepository.findByWorkoutId(workoutId).stream()
+                .map(pr -> pr.getExercise().getId())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Exercise ids whose current record was set in each of the given workouts of a user
+     */
+    public Map<Long, Set<Long>> findRecordExerciseIdsByWorkout(Long userId, Collection<Long> workoutIds) {
+        Map<Long, Set<Long>> byWorkout = new HashMap<>();
+        for (PersonalRecord pr : personalRecordRepository.findByUserIdAndWorkoutIdIn(userId, workoutIds)) {
+            byWorkout.computeIfAbsent(pr.getWorkoutId(), id -> new HashSet<>()).add(pr.getExercise().getId());
+        }
+        return byWorkout;
+    }
+
+    /**
+     * Apply a saved result. Must be called after the result has been persisted.
+     */
+    public void onResultSaved(ExerciseResult result) {
+        // The result may have been the best set before this update; re-derive that record first
+        personalRecordRepository.findHeldByResultId(result.getId())
+                .ifPresent(previous -> recompute(previous.getUserId(), previous.getExercise().getId()));
+
+        WorkoutExercise we = resolveWorkoutExercise(result);
+        if (we == null) {
+            log.debug("ExerciseResult {} is not attached to a workout exercise, skipping PR tracking", result.getId());
+            return;
+        }
+
+        Workout workout = we.getWorkout();
+        Long userId = workout.getUser().getId();
+        Long exerciseId = we.getExercise().getId();
+        PersonalRecord pr = personalRecordRepository.findByUserIdAndExerciseId(userId, exerciseId)
+                .orElse(null);
+        if (pr != null && pr.getBestOneRepMax() == null) {
+            // Saved before the best estimated 1RM was tracked; only the full history can tell it
+            recompute(userId, exerciseId);
+            return;
+        }
+
+        double oneRepMax = oneRepMaxOf(result);
+        boolean heavier = pr == null || result.getWeight() > pr.getMaxWeight();
+        boolean stronger = pr == null || oneRepMax > pr.getBestOneRepMax();
+        if (!heavier && !stronger) {
+            return;
+        }
+
+        Double previousScore = pr != null ? pr.getScore() : null;
+        if (pr == null) {
+            pr = new PersonalRecord();
+            pr.setUserId(userId);
+            pr.setExercise(we.getExercise());
+        }
+        if (heavier) {
+            apply(pr, result, workout);
+            log.info("New personal record for user: {} and exercise: {} ({} x {})",
+                    userId, exerciseId, result.getWeight(), result.getReps());
+        }
+        if (stronger) {
+            applyBest(pr, result);
+        }
+        save(pr, previousScore);
+    }
+
+    /**
+     * Returns the record held by a result that is about to be deleted, if any.
+     * Pass it to {@link #recompute(Collection)} once the delete has been issued.
+     */
+    public List<PersonalRecord> findHeldByResult(Long exerciseResultId) {
+        return personalRecordRepository.findHeldByResultId(exerciseResultId)
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    public List<PersonalRecord> findHeldByWorkout(Long workoutId) {
+        return personalRecordRepository.findHeldByWorkoutId(workoutId);
+    }
+
+    public List<PersonalRecord> findHeldByWorkoutExercise(Long workoutExerciseId) {
+        return workoutExerciseRepository.findById(workoutExerciseId)
+                .map(we -> personalRecordRepository.findHeldByWorkoutId(we.getWorkout().getId()).stream()
+                        .filter(pr -> pr.getExercise().getId().equals(we.getExercise().getId()))
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+    }
+
+    /**
+     * The records the sets of a workout can count towards
+     */
+    public Set<RecordKey> findKeysOfWorkout(Long workoutId) {
+        Set<RecordKey> keys = new LinkedHashSet<>();
+        if (workoutId != null) {
+            for (UserExerciseView row : workoutExerciseRepository.findUserExercisesByWorkoutId(workoutId)) {
+                keys.add(new RecordKey(row.getUserId(), row.getExerciseId()));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * The record the sets of a workout exercise count towards, if it has a user and an exercise
+     */
+    public Set<RecordKey> findKeysOfWorkoutExercise(Long workoutExerciseId) {
+        Set<RecordKey> keys = new LinkedHashSet<>();
+        if (workoutExerciseId != null) {
+            workoutExerciseRepository.findTargetById(workoutExerciseId)
+                    .filter(target -> target.getUserId() != null && target.getExerciseId() != null)
+                    .ifPresent(target -> keys.add(new RecordKey(target.getUserId(), target.getExerciseId())));
+        }
+        return keys;
+    }
+
+    /**
+     * Re-derive each record once; used around updates that can move sets to another user, exercise or date
+     */
+    public void recomputeKeys(Collection<RecordKey> keys) {
+        for (RecordKey key : new LinkedHashSet<>(keys)) {
+            recompute(key.userId(), key.exerciseId());
+        }
+    }
+
+    public void recompute(Collection<PersonalRecord> records) {
+        for (PersonalRecord pr : records) {
+            recompute(pr.getUserId(), pr.getExercise().getId());
+        }
+    }
+
+    /**
+     * Re-derive one record from the heaviest and the strongest remaining sets, deleting it if none is left.
+     */
+    public void recompute(Long userId, Long exerciseId) {
+        List<ExerciseResult> best = exerciseResultRepository.findHeaviestForUserAndExercise(
+                userId, exerciseId, PageRequest.of(0, 1));
+        Optional<PersonalRecord> existing = personalRecordRepository.findByUserIdAndExerciseId(userId, exerciseId);
+
+        if (best.isEmpty()) {
+            existing.ifPresent(pr -> {
+                personalRecordRepository.delete(pr);
+                leaderboardService.onRecordRemoved(userId, exerciseId);
+                liftPercentileService.onScoreChanged(exerciseId, pr.getScore(), null);
+            });
+            log.info("Removed personal record for user: {} and exercise: {}", userId, exerciseId);
+            return;
+        }
+
+        ExerciseResult result = best.get(0);
+        ExerciseResult strongest = exerciseResultRepository.findStrongestForUserAndExercise(
+                userId, exerciseId, PageRequest.of(0, 1)).get(0);
+        Double previousScore = existing.map(PersonalRecord::getScore).orElse(null);
+        PersonalRecord pr = existing.orElseGet(() -> {
+            PersonalRecord created = new PersonalRecord();
+            created.setUserId(userId);
+            created.setExercise(result.getWorkoutExercise().getExercise());
+            return created;
+        });
+        apply(pr, result, result.getWorkoutExercise().getWorkout());
+        applyBest(pr, strongest);
+        save(pr, previousScore);
+    }
+
+    /**
+     * Drop and rebuild every record of a user from a full rescan
+     */
+    public List<PersonalRecordDTO> rebuildForUser(Long userId) {
+        log.info("Rebuilding personal records for user: {}", userId);
+        deleteForUser(userId);
+
+        for (Rescanned best : rescan(userId).values()) {
+            ExerciseResult result = best.heaviest();
+            PersonalRecord pr = new PersonalRecord();
+            pr.setUserId(userId);
+            pr.setExercise(result.getWorkoutExercise().getExercise());
+            apply(pr, result, result.getWorkoutExercise().getWorkout());
+            applyBest(pr, best.strongest());
+            save(pr, null);
+        }
+        userDataVersionService.bump(userId);
+        analyticsCache.invalidate(userId);
+
+        return getUserPersonalRecords(userId);
+    }
+
+    /**
+     * Delete every record of a user
+     */
+    public void deleteForUser(Long userId) {
+        List<PersonalRecord> records = personalRecordRepository.findByUserId(userId);
+        personalRecordRepository.deleteByUserId(userId);
+        leaderboardService.onUserRemoved(userId);
+        for (PersonalRecord pr : records) {
+            liftPercentileService.onScoreChanged(pr.getExercise().getId(), pr.getScore(), null);
+        }
+    }
+
+    /**
+     * Compare the stored records of a user against a full rescan of their history
+     */
+    public PersonalRecordConsistencyDTO checkConsistency(Long userId) {
+        Map<Long, Rescanned> expected = rescan(userId);
+        Map<Long, PersonalRecord> stored = personalRecordRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(pr -> pr.getExercise().getId(), pr -> pr));
+
+        Set<Long> exerciseIds = new TreeSet<>(expected.keySet());
+        exerciseIds.addAll(stored.keySet());
+
+        List<Long> mismatched = new ArrayList<>();
+        for (Long exerciseId : exerciseIds) {
+            Rescanned best = expected.get(exerciseId);
+            PersonalRecord pr = stored.get(exerciseId);
+            if (best == null || pr == null
+                    || Double.compare(best.heaviest().getWeight(), pr.getMaxWeight()) != 0
+                    || !Objects.equals(oneRepMaxOf(best.strongest()), pr.getBestOneRepMax())) {
+                mismatched.add(exerciseId);
+            }
+        }
+
+        if (!mismatched.isEmpty()) {
+            log.warn("Personal records of user: {} drifted for exercises: {}", userId, mismatched);
+        }
+
+        return PersonalRecordConsistencyDTO.builder()
+                .userId(userId)
+                .consistent(mismatched.isEmpty())
+                .storedRecords(stored.size())
+                .rescannedRecords(expected.size())
+                .mismatchedExerciseIds(mismatched)
+                .build();
+    }
+
+    // Helper methods
+
+    /**
+     * The sets a record is derived from: the heaviest and the one with the best estimated 1RM
+     */
+    private record Rescanned(ExerciseResult heaviest, ExerciseResult strongest) {
+    }
+
+    /**
+     * Heaviest and strongest set per exercise, earliest on ties, found over flat set rows;
+     * only the winning results are loaded as entities
+     */
+    private Map<Long, Rescanned> rescan(Long userId) {
+        Map<Long, SetRowView> heaviestRows = new HashMap<>();
+        Map<Long, SetRowView> strongestRows = new HashMap<>();
+        for (SetRowView row : exerciseResultRepository.findSetRows(userId, null, null)) {
+            EntityVisits.results(1);
+            SetRowView heaviest = heaviestRows.get(row.getExerciseId());
+            if (heaviest == null || row.getWeight() > heaviest.getWeight()) {
+                heaviestRows.put(row.getExerciseId(), row);
+            }
+            SetRowView strongest = strongestRows.get(row.getExerciseId());
+            if (strongest == null || oneRepMaxOf(row) > oneRepMaxOf(strongest)) {
+                strongestRows.put(row.getExerciseId(), row);
+            }
+        }
+
+        Set<Long> resultIds = new HashSet<>();
+        heaviestRows.values().forEach(row -> resultIds.add(row.getResultId()));
+        strongestRows.values().forEach(row -> resultIds.add(row.getResultId()));
+        Map<Long, ExerciseResult> results = new HashMap<>();
+        for (ExerciseResult result : exerciseResultRepository.findAllById(resultIds)) {
+            results.put(result.getId(), result);
+        }
+
+        Map<Long, Rescanned> best = new HashMap<>();
+        heaviestRows.forEach((exerciseId, row) -> best.put(exerciseId, new Rescanned(
+                results.get(row.getResultId()), results.get(strongestRows.get(exerciseId).getResultId()))));
+        return best;
+    }
+
+    private WorkoutExercise resolveWorkoutExercise(ExerciseResult result) {
+        WorkoutExercise we = result.getWorkoutExercise();
+        if (we == null || we.getId() == null) {
+            return null;
+        }
+        // Request bodies only carry the id of the workout exercise
+        if (we.getWorkout() == null || we.getExercise() == null) {
+            we = workoutExerciseRepository.findById(we.getId()).orElse(null);
+        }
+        return we != null && we.getWorkout() != null && we.getWorkout().getUser() != null ? we : null;
+    }
+
+    private void save(PersonalRecord pr, Double previousScore) {
+        personalRecordRepository.save(pr);
+        leaderboardService.onRecordSaved(pr);
+        liftPercentileService.onScoreChanged(pr.getExercise().getId(), previousScore, pr.getScore());
+    }
+
+    private void apply(PersonalRecord pr, ExerciseResult result, Workout workout) {
+        pr.setMaxWeight(result.getWeight());
+        pr.setRepsAtMaxWeight(result.getReps());
+        pr.setOneRepMax(AnalyticsService.calculateOneRepMax(result.getWeight(), result.getReps()));
+        pr.setWorkoutId(workout.getId());
+        pr.setExerciseResultId(result.getId());
+        pr.setAchievedDate(workout.getCreatedAt());
+    }
+
+    private void applyBest(PersonalRecord pr, ExerciseResult result) {
+        pr.setBestOneRepMax(oneRepMaxOf(result));
+        pr.setBestOneRepMaxResultId(result.getId());
+    }
+
+    private static double oneRepMaxOf(ExerciseResult result) {
+        return AnalyticsService.calculateOneRepMax(result.getWeight(), result.getReps());
+    }
+
+    private static double oneRepMaxOf(SetRowView row) {
+        return AnalyticsService.calculateOneRepMax(row.getWeight(), row.getReps());
+    }
+
+    private PersonalRecordDTO toDTO(PersonalRecord pr) {
+        return PersonalRecordDTO.builder()
+                .exerciseId(pr.getExercise().getId())
+                .exerciseName(pr.getExercise().getName())
+                .maxWeight(pr.getMaxWeight())
+                .repsAtMaxWeight(pr.getRepsAtMaxWeight())
+                .achievedDate(pr.getAchievedDate())
+                .workoutId(pr.getWorkoutId())
+                .oneRepMax(pr.getOneRepMax())
+                .totalVolume(pr.getRepsAtMaxWeight())
+                .build();
+    }
+}
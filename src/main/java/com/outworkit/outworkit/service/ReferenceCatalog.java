@@ -0,0 +1,176 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.EquipmentDTO;
+import com.outworkit.outworkit.dto.ExerciseDTO;
+import com.outworkit.outworkit.dto.MuscleDTO;
+import com.outworkit.outworkit.dto.MuscleGroupDTO;
+import com.outworkit.outworkit.dto.SplitDTO;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of the reference catalog behind {@link ReferenceCatalogService}.
+ * Each table is sorted and indexed by id; exercises and equipment are also indexed by lower-cased name.
+ * Exercises are also searchable by name, equipment and muscle group through an {@link ExerciseSearchIndex}.
+ * The DTOs are shared by every reader of the snapshot and must not be modified.
+ */
+final class ReferenceCatalog {
+
+    private final Table<ExerciseDTO> exercises;
+    private final Table<EquipmentDTO> equipment;
+    private final Table<MuscleGroupDTO> muscleGroups;
+    private final Table<MuscleDTO> muscles;
+    private final Table<SplitDTO> splits;
+    private final Map<String, Long> exerciseIdsByName;
+    private final Map<String, Long> equipmentIdsByName;
+    private final ExerciseSearchIndex searchIndex;
+    private final LocalDateTime loadedAt;
+    private final int fingerprint;
+
+    ReferenceCatalog(List<ExerciseDTO> exercises, List<EquipmentDTO> equipment, List<MuscleGroupDTO> muscleGroups,
+                     List<MuscleDTO> muscles, List<SplitDTO> splits, LocalDateTime loadedAt) {
+        this.exercises = new Table<>(exercises, ExerciseDTO::getId);
+        this.equipment = new Table<>(equipment, EquipmentDTO::getId);
+        this.muscleGroups = new Table<>(muscleGroups, MuscleGroupDTO::getId);
+        this.muscles = new Table<>(muscles, MuscleDTO::getId);
+        this.splits = new Table<>(splits, SplitDTO::getId);
+        this.exerciseIdsByName = nameIndex(this.exercises, ExerciseDTO::getName, ExerciseDTO::getId);
+        this.equipmentIdsByName = nameIndex(this.equipment, EquipmentDTO::getName, EquipmentDTO::getId);
+        this.searchIndex = new ExerciseSearchIndex(this.exercises.all(),
+                names(this.equipment, EquipmentDTO::getId, EquipmentDTO::getName),
+                names(this.muscleGroups, MuscleGroupDTO::getId, MuscleGroupDTO::getName));
+        this.loadedAt = loadedAt;
+        this.fingerprint = List.of(this.exercises.all(), this.equipment.all(), this.muscleGroups.all(),
+                this.muscles.all(), this.splits.all()).hashCode();
+    }
+
+    Table<ExerciseDTO> exercises() {
+        return exercises;
+    }
+
+    Table<EquipmentDTO> equipment() {
+        return equipment;
+    }
+
+    Table<MuscleGroupDTO> muscleGroups() {
+        return muscleGroups;
+    }
+
+    Table<MuscleDTO> muscles() {
+        return muscles;
+    }
+
+    Table<SplitDTO> splits() {
+        return splits;
+    }
+
+    ExerciseSearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Hash of the catalog contents; equal on every instance that loaded the same rows
+     */
+    int fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Id of the exercise with this name ignoring case, as {@code findByNameIgnoreCase} would match it
+     */
+    Optional<Long> exerciseIdByName(String name) {
+        return Optional.ofNullable(exerciseIdsByName.get(normalize(name)));
+    }
+
+    Optional<Long> equipmentIdByName(String name) {
+        return Optional.ofNullable(equipmentIdsByName.get(normalize(name)));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> Map<Long, String> names(Table<T> table, Function<T, Long> idOf, Function<T, String> nameOf) {
+        Map<Long, String> names = new HashMap<>();
+        for (T row : table.all()) {
+            names.put(idOf.apply(row), nameOf.apply(row));
+        }
+        return names;
+    }
+
+    /**
+     * Lower-cased name to id; when names collide the lowest id wins
+     */
+    private static <T> Map<String, Long> nameIndex(Table<T> table, Function<T, String> nameOf, Function<T, Long> idOf) {
+        Map<String, Long> index = new HashMap<>();
+        for (T row : table.all()) {
+            if (nameOf.apply(row) != null) {
+                index.putIfAbsent(normalize(nameOf.apply(row)), idOf.apply(row));
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    static final class Table<T> {
+
+        private final List<T> rows;
+        private final long[] ids;
+        private final Map<Long, T> byId;
+
+        Table(List<T> rows, Function<T, Long> idOf) {
+            List<T> sorted = new ArrayList<>(rows);
+            sorted.sort(Comparator.comparing(idOf));
+            this.rows = Collections.unmodifiableList(sorted);
+            this.ids = new long[sorted.size()];
+            Map<Long, T> index = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = idOf.apply(sorted.get(i));
+                index.put(ids[i], sorted.get(i));
+            }
+            this.byId = Collections.unmodifiableMap(index);
+        }
+
+        List<T> all() {
+            return rows;
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        Optional<T> get(Long id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        /**
+         * Up to count rows past afterId in id order, the rows a keyset page query would return
+         */
+        List<T> after(Long afterId, boolean descending, int count) {
+            if (!descending) {
+                int from = afterId == null ? 0 : insertionPoint(afterId, true);
+                return rows.subList(from, Math.min(from + count, rows.size()));
+            }
+            int to = afterId == null ? rows.size() : insertionPoint(afterId, false);
+            List<T> page = new ArrayList<>(rows.subList(Math.max(0, to - count), to));
+            Collections.reverse(page);
+            return page;
+        }
+
+        /**
+         * Index of the first id above the given one when past, otherwise of the first id not below it
+         */
+        private int insertionPoint(long id, boolean past) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return -(index + 1);
+            }
+            return past ? index + 1 : index;
+        }
+    }
+}
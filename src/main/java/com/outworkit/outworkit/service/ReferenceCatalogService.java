@@ -0,0 +1,153 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.CatalogStatsDTO;
+import com.outworkit.outworkit.repository.EquipmentRepository;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.MuscleGroupRepository;
+import com.outworkit.outworkit.repository.MuscleRepository;
+import com.outworkit.outworkit.repository.SplitRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-through cache of the reference catalog (exercises, equipment, muscle groups, muscles and splits).
+ * Readers share one immutable {@link ReferenceCatalog}; a committed write to any of these entities
+ * drops it and the next reader loads a new one with five queries in its own read-only transaction.
+ */
+@Slf4j
+@Service
+public class ReferenceCatalogService {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final ExerciseRepository exerciseRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final MuscleGroupRepository muscleGroupRepository;
+    private final MuscleRepository muscleRepository;
+    private final SplitRepository splitRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Object loadLock = new Object();
+
+    private volatile ReferenceCatalog catalog;
+    // Bumped on every invalidation so a snapshot loaded while a write commits is not installed
+    private long writeEpoch;
+
+    public ReferenceCatalogService(ExerciseRepository exerciseRepository,
+                                   EquipmentRepository equipmentRepository,
+                                   MuscleGroupRepository muscleGroupRepository,
+                                   MuscleRepository muscleRepository,
+                                   SplitRepository splitRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.exerciseRepository = exerciseRepository;
+        this.equipmentRepository = equipmentRepository;
+        this.muscleGroupRepository = muscleGroupRepository;
+        this.muscleRepository = muscleRepository;
+        this.splitRepository = splitRepository;
+        // Never read through the caller's transaction, whose uncommitted writes may still roll back
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    /**
+     * Current snapshot, loading one if a write dropped the previous snapshot
+     */
+    ReferenceCatalog current() {
+        ReferenceCatalog snapshot = catalog;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // One reader loads while the others wait for its snapshot
+        synchronized (loadLock) {
+            snapshot = catalog;
+            return snapshot != null ? snapshot : load();
+        }
+    }
+
+    /**
+     * Load a new snapshot from the database and swap it in
+     */
+    public CatalogStatsDTO reload() {
+        synchronized (loadLock) {
+            return toStats(load());
+        }
+    }
+
+    /**
+     * Changes whenever the contents of the catalog change, for validators of responses that show catalog names
+     */
+    public int getFingerprint() {
+        return current().fingerprint();
+    }
+
+    public CatalogStatsDTO getStats() {
+        return toStats(current());
+    }
+
+    /**
+     * Drop the snapshot once the current transaction commits
+     */
+    void invalidate() {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                writeEpoch++;
+                catalog = null;
+            }
+        });
+    }
+
+    private ReferenceCatalog load() {
+        ReferenceCatalog loaded = null;
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long epoch;
+            synchronized (this) {
+                epoch = writeEpoch;
+            }
+
+            loaded = loadTransaction.execute(status -> new ReferenceCatalog(
+                    exerciseRepository.findAllDtos(),
+                    equipmentRepository.findAllDtos(),
+                    muscleGroupRepository.findAllDtos(),
+                    muscleRepository.findAllDtos(),
+                    splitRepository.findAllDtos(),
+                    LocalDateTime.now()));
+
+            synchronized (this) {
+                if (epoch == writeEpoch) {
+                    catalog = loaded;
+                    log.info("Loaded reference catalog: {} exercises, {} equipment, {} muscle groups, {} muscles, {} splits",
+                            loaded.exercises().size(), loaded.equipment().size(), loaded.muscleGroups().size(),
+                            loaded.muscles().size(), loaded.splits().size());
+                    return loaded;
+                }
+            }
+        }
+        // Still fresher than anything installed; the next reader tries again
+        log.warn("Reference catalog kept changing during load; serving it without caching");
+        return loaded;
+    }
+
+    private static CatalogStatsDTO toStats(ReferenceCatalog snapshot) {
+        return CatalogStatsDTO.builder()
+                .exercises(snapshot.exercises().size())
+                .equipment(snapshot.equipment().size())
+                .muscleGroups(snapshot.muscleGroups().size())
+                .muscles(snapshot.muscles().size())
+                .splits(snapshot.splits().size())
+                .searchTerms(snapshot.searchIndex().terms())
+                .loadedAt(snapshot.loadedAt())
+                .build();
+    }
+}
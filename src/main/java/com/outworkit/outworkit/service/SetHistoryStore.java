@@ -0,0 +1,200 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.SetStoreStatsDTO;
+import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.entity.Workout;
+import com.outworkit.outworkit.entity.WorkoutExercise;
+import com.outworkit.outworkit.metrics.EntityVisits;
+import com.outworkit.outworkit.repository.ExerciseResultRepository;
+import com.outworkit.outworkit.repository.SetRowView;
+import com.outworkit.outworkit.repository.WorkoutExerciseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Optional in-memory store of each active user's set history as a {@link UserSetHistory}.
+ * Histories are loaded lazily, appended to when new sets commit, evicted on any other write
+ * to the user's data, and evicted least-recently-used once the memory budget is exceeded.
+ */
+@Slf4j
+@Service
+public class SetHistoryStore {
+
+    private final ExerciseResultRepository exerciseResultRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final boolean enabled;
+    private final long budgetBytes;
+
+    private final LinkedHashMap<Long, UserSetHistory> histories = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long evictions;
+    // Bumped on every write so a load racing with a commit is not cached
+    private long writeEpoch;
+
+    public SetHistoryStore(ExerciseResultRepository exerciseResultRepository,
+                           WorkoutExerciseRepository workoutExerciseRepository,
+                           @Value("${outworkit.set-store.enabled:false}") boolean enabled,
+                           @Value("${outworkit.set-store.max-bytes:67108864}") long budgetBytes) {
+        this.exerciseResultRepository = exerciseResultRepository;
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.enabled = enabled;
+        this.budgetBytes = budgetBytes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long toTime(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime fromTime(long time) {
+        return LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * History of a user, loading it from the database on a miss
+     */
+    public UserSetHistory get(Long userId) {
+        long epoch;
+        synchronized (this) {
+            UserSetHistory history = histories.get(userId);
+            if (history != null) {
+                return history;
+            }
+            epoch = writeEpoch;
+        }
+
+        UserSetHistory loaded = load(userId);
+
+        synchronized (this) {
+            if (epoch == writeEpoch && !histories.containsKey(userId)) {
+                put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Append a newly created set to its user's history once the transaction commits
+     */
+    public void onResultCreated(ExerciseResult result) {
+        if (!enabled || result.getWorkoutExercise() == null || result.getWorkoutExercise().getId() == null) {
+            return;
+        }
+        WorkoutExercise we = workoutExerciseRepository.findById(result.getWorkoutExercise().getId()).orElse(null);
+        // Sets of a workout without a date are left out of the history, as on load
+        if (we == null || we.getWorkout() == null || we.getWorkout().getUser() == null
+                || we.getWorkout().getCreatedAt() == null) {
+            return;
+        }
+
+        Workout workout = we.getWorkout();
+        Long userId = workout.getUser().getId();
+        long time = toTime(workout.getCreatedAt());
+        long workoutId = workout.getId();
+        long workoutExerciseId = we.getId();
+        long exerciseId = we.getExercise().getId();
+        double weight = result.getWeight();
+        int reps = result.getReps();
+
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                writeEpoch++;
+                UserSetHistory history = histories.get(userId);
+                if (history == null) {
+                    return;
+                }
+                if (history.canAppend(time, workoutId, workoutExerciseId)) {
+                    put(userId, history.append(time, workoutId, workoutExerciseId, exerciseId, weight, reps));
+                } else {
+                    remove(userId);
+                }
+            }
+        });
+    }
+
+    public void invalidate(Long... userIds) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                writeEpoch++;
+                for (Long userId : userIds) {
+                    if (userId != null) {
+                        remove(userId);
+                    }
+                }
+            }
+        });
+    }
+
+    public void invalidate(DailyRollupService.DayKey... keys) {
+        invalidate(Arrays.stream(keys).filter(Objects::nonNull).map(DailyRollupService.DayKey::userId).toArray(Long[]::new));
+    }
+
+    public synchronized SetStoreStatsDTO getStats() {
+        Map<Long, SetStoreStatsDTO.UserFootprint> perUser = new LinkedHashMap<>();
+        histories.forEach((userId, history) -> perUser.put(userId, SetStoreStatsDTO.UserFootprint.builder()
+                .sets(history.size())
+                .bytes(history.sizeInBytes())
+                .build()));
+
+        return SetStoreStatsDTO.builder()
+                .enabled(enabled)
+                .users(histories.size())
+                .totalBytes(totalBytes)
+                .budgetBytes(budgetBytes)
+                .evictions(evictions)
+                .perUser(perUser)
+                .build();
+    }
+
+    private UserSetHistory load(Long userId) {
+        List<SetRowView> rows = exerciseResultRepository.findSetRows(userId, null, null);
+        EntityVisits.results(rows.size());
+        UserSetHistory history = UserSetHistory.withCapacity(rows.size());
+        for (SetRowView row : rows) {
+            // The history is a timeline; sets of a workout without a date have no place on it
+            if (row.getPerformedAt() == null) {
+                continue;
+            }
+            history = history.append(toTime(row.getPerformedAt()), row.getWorkoutId(), row.getWorkoutExerciseId(),
+                    row.getExerciseId(), row.getWeight(), row.getReps());
+        }
+        log.debug("Loaded {} sets for user: {} ({} bytes)", history.size(), userId, history.sizeInBytes());
+        return history;
+    }
+
+    // Callers hold the monitor
+
+    private void put(Long userId, UserSetHistory history) {
+        UserSetHistory previous = histories.put(userId, history);
+        totalBytes += history.sizeInBytes() - (previous != null ? previous.sizeInBytes() : 0);
+
+        Iterator<Map.Entry<Long, UserSetHistory>> eldest = histories.entrySet().iterator();
+        while (totalBytes > budgetBytes && eldest.hasNext()) {
+            Map.Entry<Long, UserSetHistory> entry = eldest.next();
+            if (entry.getKey().equals(userId)) {
+                continue;
+            }
+            totalBytes -= entry.getValue().sizeInBytes();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(Long userId) {
+        UserSetHistory removed = histories.remove(userId);
+        if (removed != null) {
+            totalBytes -= removed.sizeInBytes();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import com.outworkit.outworkit.dto.SplitDTO;
 import com.outworkit.outworkit.entity.Split;
 import com.outworkit.outworkit.repository.SplitRepository;
 
@@ -20,23 +22,28 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class SplitService {
     
-    SplitRepository splitRepository;
+    private final SplitRepository splitRepository;
+    private final ReferenceCatalogService referenceCatalogService;
 
-    public List<Split> getAllSplits(){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public KeysetPage<SplitDTO> getAllSplits(String cursor, int limit, boolean descending){
         try{
-            return splitRepository.findAll();
+            List<SplitDTO> rows = referenceCatalogService.current().splits()
+                    .after(IdCursor.decode(cursor), descending, limit + 1);
+            return IdCursor.page(rows, limit, SplitDTO::getId);
         }catch(Exception e){
             log.error("Error retrieving splits", e);
             throw e;
         }
     }
 
-    public Split getSplitById(Long id){
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public SplitDTO getSplitById(Long id){
         try{
             if(id == null){
                 throw new IllegalArgumentException("Id cannot be null");
             }
-            return splitRepository.findById(id).orElse(null);
+            return referenceCatalogService.current().splits().get(id).orElse(null);
         }catch(Exception e){
             log.error("Error retrieving split with id {}", id, e);
             throw e;
@@ -55,7 +62,9 @@ public class SplitService {
                 log.info("Creating new split");
             }
 
-            return splitRepository.save(split);
+            Split savedSplit = splitRepository.save(split);
+            referenceCatalogService.invalidate();
+            return savedSplit;
         }catch(Exception e){
             log.error("Error saving or updating split", e);
             throw e;
@@ -68,6 +77,7 @@ public class SplitService {
                 throw new ResourceNotFoundException(String.format("Equipment not found with ID: %d", id));
             }
             splitRepository.deleteById(id);
+            referenceCatalogService.invalidate();
         }catch(Exception e){
             log.error("Error deleting split with id {}", id, e);
             throw e;
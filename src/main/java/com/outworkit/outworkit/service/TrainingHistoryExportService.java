@@ -0,0 +1,104 @@
+package com.outworkit.outworkit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outworkit.outworkit.dto.WorkoutExportDTO;
+import com.outworkit.outworkit.repository.WorkoutExportRowView;
+import com.outworkit.outworkit.repository.WorkoutRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's training history as newline-delimited JSON, one workout per line.
+ * Rows come from a forward-only cursor of projections, so nothing accumulates in the
+ * persistence context and only the workout being written is held in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainingHistoryExportService {
+
+    private static final int FLUSH_EVERY_WORKOUTS = 100;
+
+    private final WorkoutRepository workoutRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stream the history of a user to the given output; returns the number of workouts written
+     */
+    @Transactional(readOnly = true)
+    public int export(Long userId, OutputStream out) throws IOException {
+        log.info("Exporting training history for user: {}", userId);
+        int workouts = 0;
+
+        try (Stream<WorkoutExportRowView> rows = workoutRepository.streamExportRows(userId)) {
+            Iterator<WorkoutExportRowView> iterator = rows.iterator();
+            WorkoutExportDTO workout = null;
+            WorkoutExportDTO.ExerciseEntry exercise = null;
+
+            while (iterator.hasNext()) {
+                WorkoutExportRowView row = iterator.next();
+
+                if (workout == null || !workout.getWorkoutId().equals(row.getWorkoutId())) {
+                    if (workout != null) {
+                        writeLine(workout, out);
+                        if (++workouts % FLUSH_EVERY_WORKOUTS == 0) {
+                            out.flush();
+                        }
+                    }
+                    workout = WorkoutExportDTO.builder()
+                            .workoutId(row.getWorkoutId())
+                            .createdAt(row.getCreatedAt())
+                            .splitName(row.getSplitName())
+                            .exercises(new ArrayList<>())
+                            .build();
+                    exercise = null;
+                }
+
+                if (row.getWorkoutExerciseId() == null) {
+                    continue;
+                }
+                if (exercise == null || !Objects.equals(exercise.getWorkoutExerciseId(), row.getWorkoutExerciseId())) {
+                    exercise = WorkoutExportDTO.ExerciseEntry.builder()
+                            .workoutExerciseId(row.getWorkoutExerciseId())
+                            .exerciseId(row.getExerciseId())
+                            .exerciseName(row.getExerciseName())
+                            .sets(new ArrayList<>())
+                            .build();
+                    workout.getExercises().add(exercise);
+                }
+
+                if (row.getResultId() != null) {
+                    exercise.getSets().add(WorkoutExportDTO.SetEntry.builder()
+                            .resultId(row.getResultId())
+                            .setNumber(row.getSetNumber())
+                            .reps(row.getReps())
+                            .weight(row.getWeight())
+                            .build());
+                }
+            }
+
+            if (workout != null) {
+                writeLine(workout, out);
+                workouts++;
+            }
+        }
+
+        out.flush();
+        log.info("Exported {} workouts for user: {}", workouts, userId);
+        return workouts;
+    }
+
+    private void writeLine(WorkoutExportDTO workout, OutputStream out) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(workout));
+        out.write('\n');
+    }
+}
@@ -0,0 +1,56 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.repository.UserDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Monotonic per-user data version behind the ETags of the analytics endpoints.
+ * Writers bump it inside their own transaction, so the version a reader sees never runs ahead
+ * of the data it covers; the check itself is one primary-key read.
+ */
+@RequiredArgsConstructor
+@Service
+public class UserDataVersionService {
+
+    private final UserDataVersionRepository userDataVersionRepository;
+    private final ReferenceCatalogService referenceCatalogService;
+
+    /**
+     * Bump the version of every given user; must run inside the writing transaction
+     */
+    public void bump(Long... userIds) {
+        // Ascending ids so concurrent writers touching several users lock rows in the same order
+        Arrays.stream(userIds).filter(Objects::nonNull).distinct().sorted()
+                .forEach(userDataVersionRepository::increment);
+    }
+
+    public void bump(DailyRollupService.DayKey... keys) {
+        bump(Arrays.stream(keys).filter(Objects::nonNull).map(DailyRollupService.DayKey::userId).toArray(Long[]::new));
+    }
+
+    public void delete(Long userId) {
+        userDataVersionRepository.deleteById(userId);
+    }
+
+    /**
+     * 0 for users who have never written anything
+     */
+    public long getVersion(Long userId) {
+        return userDataVersionRepository.findVersion(userId).orElse(0L);
+    }
+
+    /**
+     * Strong ETag of the analytics of a user: their data version, the catalog contents (exercise and
+     * muscle group names appear in responses) and today's date (streaks and windows end today)
+     */
+    public String getETag(Long userId) {
+        return String.format("\"%d-%08x-%s\"", getVersion(userId), referenceCatalogService.getFingerprint(),
+                LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+}
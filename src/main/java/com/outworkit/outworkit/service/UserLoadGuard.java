@@ -0,0 +1,50 @@
+package com.outworkit.outworkit.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tells a per-user cache whether a value it loaded outside its lock is still current.
+ * A load takes a ticket before reading and may cache its result only if no write to that user
+ * (or to everyone) committed since. Only users with a load in flight are tracked.
+ * Not thread-safe: callers hold their own lock around every call.
+ */
+final class UserLoadGuard {
+
+    private static final class Loads {
+        int inFlight;
+        long lastWrite;
+    }
+
+    private final Map<Long, Loads> loads = new HashMap<>();
+    private long clock;
+    private long lastWriteToAll;
+
+    long begin(Long userId) {
+        loads.computeIfAbsent(userId, id -> new Loads()).inFlight++;
+        return clock;
+    }
+
+    /**
+     * Ends a load; true when nothing was written to its user since {@link #begin}
+     */
+    boolean end(Long userId, long ticket) {
+        Loads userLoads = loads.get(userId);
+        boolean current = lastWriteToAll <= ticket && (userLoads == null || userLoads.lastWrite <= ticket);
+        if (userLoads != null && --userLoads.inFlight == 0) {
+            loads.remove(userId);
+        }
+        return current;
+    }
+
+    void written(Long userId) {
+        Loads userLoads = loads.get(userId);
+        if (userLoads != null) {
+            userLoads.lastWrite = ++clock;
+        }
+    }
+
+    void writtenToAll() {
+        lastWriteToAll = ++clock;
+    }
+}
@@ -2,13 +2,17 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import com.outworkit.outworkit.dto.UserDTO;
 import com.outworkit.outworkit.entity.User;
+import com.outworkit.outworkit.repository.DailyExerciseRollupRepository;
 import com.outworkit.outworkit.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,27 +23,38 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-
-    public List<User> getUsers() {
+    private final DailyExerciseRollupRepository dailyExerciseRollupRepository;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+    private final PersonalRecordService personalRecordService;
+
+    /**
+     * One page of users ordered by id, optionally filtered by signup date range
+     */
+    public KeysetPage<UserDTO> getUsers(LocalDateTime startDate, LocalDateTime endDate,
+                                     String cursor, int limit, boolean descending) {
         try {
-            log.debug("Getting users");
-            List<User> users = userRepository.findAll();
+            log.debug("Getting users page after cursor {}", cursor);
+            List<UserDTO> rows = userRepository.findPage(startDate, endDate,
+                    IdCursor.decode(cursor), descending, IdCursor.request(limit, descending));
             log.info("Users retrieved");
-            return users;
+            return IdCursor.page(rows, limit, UserDTO::getId);
         } catch (Exception e) {
             log.error("Error retrieving users", e);
             throw e;
         }
     }
 
-    public User getUser(Long id) {
+    public UserDTO getUser(Long id) {
         log.debug("Looking for user with ID: {}", id);
 
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return userRepository.findById(id)
+        return userRepository.findDtoById(id)
                 .orElseThrow(() -> {
                     log.warn("User not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -65,13 +80,19 @@ public class UserService {
         validateUser(user);
 
         if (user.getId() != null) {
-            if (!userRepository.existsById(user.getId())) {
-                throw new ResourceNotFoundException(
-                        String.format("Can't update user not found with ID: %d", user.getId())
-                );
+            User existing = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            String.format("Can't update user not found with ID: %d", user.getId())
+                    ));
+            // The signup date defines the user's cohort; keep it when an update leaves it out
+            if (user.getCreatedAt() == null) {
+                user.setCreatedAt(existing.getCreatedAt());
             }
             log.info("Updating existing user ID: {}", user.getId());
         } else {
+            if (user.getCreatedAt() == null) {
+                user.setCreatedAt(LocalDateTime.now());
+            }
             log.info("Creating a new user: {}", user.getUserName());
         }
 
@@ -85,7 +106,13 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException(String.format("User not found with ID: %d", id));
         }
+        personalRecordService.deleteForUser(id);
+        dailyExerciseRollupRepository.deleteByUserId(id);
         userRepository.deleteById(id);
+        userDataVersionService.delete(id);
+        activityCalendarService.invalidate(id);
+        setHistoryStore.invalidate(id);
+        analyticsCache.invalidate(id);
     }
 
     private void validateUser(User user) {
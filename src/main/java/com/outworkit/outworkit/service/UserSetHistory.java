@@ -0,0 +1,128 @@
+package com.outworkit.outworkit.service;
+
+import java.util.Arrays;
+
+/**
+ * Columnar, time-ordered set history of one user.
+ * Instances are immutable views over shared arrays: {@link #append} writes past the current size
+ * and returns a new view, so readers of an older view never observe the change.
+ * Rows are ordered by (performedAt, workoutId, workoutExerciseId), which keeps the sets of a workout,
+ * and of each exercise entry within it, contiguous.
+ */
+public final class UserSetHistory {
+
+    private static final int ROW_BYTES = 8 + 8 + 8 + 8 + 8 + 4;
+
+    private final long[] performedAt; // epoch seconds of the workout's local date-time
+    private final long[] workoutIds;
+    private final long[] workoutExerciseIds;
+    private final long[] exerciseIds;
+    private final double[] weights;
+    private final int[] reps;
+    private final int size;
+
+    private UserSetHistory(long[] performedAt, long[] workoutIds, long[] workoutExerciseIds, long[] exerciseIds,
+                           double[] weights, int[] reps, int size) {
+        this.performedAt = performedAt;
+        this.workoutIds = workoutIds;
+        this.workoutExerciseIds = workoutExerciseIds;
+        this.exerciseIds = exerciseIds;
+        this.weights = weights;
+        this.reps = reps;
+        this.size = size;
+    }
+
+    public static UserSetHistory withCapacity(int capacity) {
+        int c = Math.max(capacity, 8);
+        return new UserSetHistory(new long[c], new long[c], new long[c], new long[c], new double[c], new int[c], 0);
+    }
+
+    /**
+     * Whether a row can be appended without breaking the time order
+     */
+    public boolean canAppend(long time, long workoutId, long workoutExerciseId) {
+        if (size == 0 || time > performedAt[size - 1]) {
+            return true;
+        }
+        return time == performedAt[size - 1] && (workoutId > workoutIds[size - 1]
+                || (workoutId == workoutIds[size - 1] && workoutExerciseId >= workoutExerciseIds[size - 1]));
+    }
+
+    /**
+     * View with one more row at the end; callers must check {@link #canAppend} first
+     * and must only append to the latest view.
+     */
+    public UserSetHistory append(long time, long workoutId, long workoutExerciseId, long exerciseId,
+                                 double weight, int repCount) {
+        if (!canAppend(time, workoutId, workoutExerciseId)) {
+            throw new IllegalArgumentException("Row is older than the last row of the history");
+        }
+        UserSetHistory target = this;
+        if (size == performedAt.length) {
+            int grown = performedAt.length + (performedAt.length >> 1) + 1;
+            target = new UserSetHistory(Arrays.copyOf(performedAt, grown), Arrays.copyOf(workoutIds, grown),
+                    Arrays.copyOf(workoutExerciseIds, grown), Arrays.copyOf(exerciseIds, grown),
+                    Arrays.copyOf(weights, grown), Arrays.copyOf(reps, grown), size);
+        }
+        target.performedAt[size] = time;
+        target.workoutIds[size] = workoutId;
+        target.workoutExerciseIds[size] = workoutExerciseId;
+        target.exerciseIds[size] = exerciseId;
+        target.weights[size] = weight;
+        target.reps[size] = repCount;
+        return new UserSetHistory(target.performedAt, target.workoutIds, target.workoutExerciseIds, target.exerciseIds,
+                target.weights, target.reps, size + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long performedAt(int i) {
+        return performedAt[i];
+    }
+
+    public long workoutId(int i) {
+        return workoutIds[i];
+    }
+
+    public long workoutExerciseId(int i) {
+        return workoutExerciseIds[i];
+    }
+
+    public long exerciseId(int i) {
+        return exerciseIds[i];
+    }
+
+    public double weight(int i) {
+        return weights[i];
+    }
+
+    public int reps(int i) {
+        return reps[i];
+    }
+
+    /**
+     * Index of the first row performed at or after the given time
+     */
+    public int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (performedAt[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Approximate heap footprint in bytes, counting allocated capacity
+     */
+    public long sizeInBytes() {
+        return 6 * 16 + 40 + (long) performedAt.length * ROW_BYTES;
+    }
+}
@@ -0,0 +1,222 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.dto.UserStatsDTO;
+import com.outworkit.outworkit.entity.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.*;
+
+/**
+ * Single-pass accumulator behind {@link AnalyticsService#getUserStats}.
+ * Totals, muscle-group breakdown, weekly frequency and per-exercise PRs
+ * are all folded while walking the workout tree once, using mutable primitive holders.
+ * Streaks come from the user's {@link ActivityCalendar}.
+ */
+final class UserStatsAccumulator {
+
+    static final int TOP_PERSONAL_RECORDS = 10;
+
+    private int totalWorkouts;
+    private int totalExercises;
+    private int totalSets;
+    private int totalReps;
+    private double totalVolume;
+    private LocalDateTime firstWorkout;
+    private LocalDateTime lastWorkout;
+
+    private final Map<String, MuscleGroupTotals> muscleGroups = new HashMap<>();
+    private final Map<Integer, WeekTotals> weeks = new HashMap<>();
+    private final Map<Long, BestSet> bestSets = new HashMap<>();
+
+    void accept(Workout workout) {
+        LocalDateTime date = workout.getCreatedAt();
+        if (date == null) {
+            // Legacy undated workouts have no place in first/last dates, weeks or PR dates
+            return;
+        }
+        totalWorkouts++;
+        if (firstWorkout == null || date.isBefore(firstWorkout)) {
+            firstWorkout = date;
+        }
+        if (lastWorkout == null || date.isAfter(lastWorkout)) {
+            lastWorkout = date;
+        }
+
+        double workoutVolume = 0;
+
+        for (WorkoutExercise we : workout.getWorkoutExercises()) {
+            totalExercises++;
+            Exercise exercise = we.getExercise();
+            String muscleGroupName = exercise.getMuscleGroup() != null ?
+                    exercise.getMuscleGroup().getName() : "Unknown";
+            MuscleGroupTotals mg = null;
+            BestSet best = null;
+
+            for (ExerciseResult result : we.getResults()) {
+                double weight = result.getWeight();
+                int reps = result.getReps();
+                double volume = weight * reps;
+
+                totalSets++;
+                totalReps += reps;
+                totalVolume += volume;
+                workoutVolume += volume;
+
+                if (mg == null) {
+                    mg = muscleGroups.computeIfAbsent(muscleGroupName, k -> new MuscleGroupTotals());
+                }
+                mg.sets++;
+                mg.volume += volume;
+                if (mg.lastWorked == null || date.isAfter(mg.lastWorked)) {
+                    mg.lastWorked = date;
+                }
+
+                if (best == null) {
+                    best = bestSets.computeIfAbsent(exercise.getId(), k -> new BestSet(exercise.getName()));
+                }
+                if (!best.present || weight > best.weight) {
+                    best.present = true;
+                    best.weight = weight;
+                    best.reps = reps;
+                    best.date = date;
+                    best.workoutId = workout.getId();
+                }
+            }
+        }
+
+        WeekTotals week = weeks.computeIfAbsent(weekKey(date), k -> new WeekTotals());
+        week.workouts++;
+        week.volume += workoutVolume;
+    }
+
+    UserStatsDTO toDTO(User user, int currentStreak, int longestStreak) {
+        UserStatsDTO.OverallStats overallStats = UserStatsDTO.OverallStats.builder()
+                .totalWorkouts(totalWorkouts)
+                .totalExercises(totalExercises)
+                .totalSets(totalSets)
+                .totalReps(totalReps)
+                .totalVolumeLifted(totalVolume)
+                .firstWorkout(firstWorkout)
+                .lastWorkout(lastWorkout)
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .averageWorkoutsPerWeek(averageWorkoutsPerWeek(totalWorkouts, firstWorkout, lastWorkout))
+                .build();
+
+        Map<String, UserStatsDTO.MuscleGroupStats> muscleGroupBreakdown = new HashMap<>();
+        muscleGroups.forEach((name, mg) -> muscleGroupBreakdown.put(name, UserStatsDTO.MuscleGroupStats.builder()
+                .muscleGroupName(name)
+                .timesWorked(mg.sets)
+                .totalVolume(mg.volume)
+                .totalSets(mg.sets)
+                .lastWorked(mg.lastWorked)
+                .build()));
+
+        Integer[] weekKeys = weeks.keySet().toArray(new Integer[0]);
+        Arrays.sort(weekKeys);
+        List<UserStatsDTO.WorkoutFrequency> frequency = new ArrayList<>(weekKeys.length);
+        for (Integer key : weekKeys) {
+            WeekTotals week = weeks.get(key);
+            frequency.add(UserStatsDTO.WorkoutFrequency.builder()
+                    .period(weekLabel(key))
+                    .workoutCount(week.workouts)
+                    .totalVolume(week.volume)
+                    .build());
+        }
+
+        return UserStatsDTO.builder()
+                .userId(user.getId())
+                .userName(user.getUserName())
+                .overall(overallStats)
+                .topPersonalRecords(topPersonalRecords())
+                .muscleGroupBreakdown(muscleGroupBreakdown)
+                .workoutFrequency(frequency)
+                .build();
+    }
+
+    /**
+     * Top PRs by estimated 1RM, selected with a min-heap bounded to {@link #TOP_PERSONAL_RECORDS}
+     */
+    private List<PersonalRecordDTO> topPersonalRecords() {
+        PriorityQueue<Map.Entry<Long, BestSet>> heap = new PriorityQueue<>(TOP_PERSONAL_RECORDS + 1,
+                Comparator.comparingDouble(e -> e.getValue().oneRepMax()));
+        for (Map.Entry<Long, BestSet> entry : bestSets.entrySet()) {
+            if (!entry.getValue().present) {
+                continue;
+            }
+            if (heap.size() < TOP_PERSONAL_RECORDS) {
+                heap.add(entry);
+            } else if (entry.getValue().oneRepMax() > heap.peek().getValue().oneRepMax()) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        PersonalRecordDTO[] top = new PersonalRecordDTO[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            Map.Entry<Long, BestSet> entry = heap.poll();
+            BestSet best = entry.getValue();
+            top[i] = PersonalRecordDTO.builder()
+                    .exerciseId(entry.getKey())
+                    .exerciseName(best.exerciseName)
+                    .maxWeight(best.weight)
+                    .repsAtMaxWeight(best.reps)
+                    .achievedDate(best.date)
+                    .workoutId(best.workoutId)
+                    .oneRepMax(best.oneRepMax())
+                    .totalVolume(best.reps)
+                    .build();
+        }
+        return Arrays.asList(top);
+    }
+
+    static double averageWorkoutsPerWeek(int totalWorkouts, LocalDateTime firstWorkout, LocalDateTime lastWorkout) {
+        if (firstWorkout == null) {
+            return 0;
+        }
+        long weeksBetween = ChronoUnit.WEEKS.between(firstWorkout, lastWorkout);
+        return weeksBetween > 0 ? (double) totalWorkouts / weeksBetween : totalWorkouts;
+    }
+
+    /**
+     * ISO week-based year * 100 + ISO week, so keys sort chronologically
+     */
+    static int weekKey(LocalDateTime date) {
+        return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+
+    static String weekLabel(int weekKey) {
+        return String.format("%d-W%02d", weekKey / 100, weekKey % 100);
+    }
+
+    private static final class MuscleGroupTotals {
+        int sets;
+        double volume;
+        LocalDateTime lastWorked;
+    }
+
+    private static final class WeekTotals {
+        int workouts;
+        double volume;
+    }
+
+    private static final class BestSet {
+        final String exerciseName;
+        boolean present;
+        double weight;
+        int reps;
+        LocalDateTime date;
+        Long workoutId;
+
+        BestSet(String exerciseName) {
+            this.exerciseName = exerciseName;
+        }
+
+        double oneRepMax() {
+            return AnalyticsService.calculateOneRepMax(weight, reps);
+        }
+    }
+}
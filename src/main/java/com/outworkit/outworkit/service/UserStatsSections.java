@@ -0,0 +1,99 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.dto.UserStatsDTO;
+import com.outworkit.outworkit.metrics.EntityVisits;
+import com.outworkit.outworkit.repository.ExerciseResultRepository;
+import com.outworkit.outworkit.repository.MuscleGroupTotalsView;
+import com.outworkit.outworkit.repository.UserTotalsView;
+import com.outworkit.outworkit.repository.WorkoutRepository;
+import com.outworkit.outworkit.repository.WorkoutVolumeView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * The independent sections of {@link UserStatsDTO}, each computed by its own read-only query
+ * so {@link UserStatsService} can run them in parallel.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatsSections {
+
+    private final WorkoutRepository workoutRepository;
+    private final ExerciseResultRepository exerciseResultRepository;
+    private final PersonalRecordService personalRecordService;
+    private final ActivityCalendarService activityCalendarService;
+
+    public UserStatsDTO.OverallStats overall(Long userId, LocalDate today) {
+        UserTotalsView totals = workoutRepository.sumTotalsByUserId(userId);
+        ActivityCalendar calendar = activityCalendarService.getCalendar(userId);
+        int totalWorkouts = totals.getWorkoutCount().intValue();
+
+        return UserStatsDTO.OverallStats.builder()
+                .totalWorkouts(totalWorkouts)
+                .totalExercises(totals.getExerciseCount().intValue())
+                .totalSets(totals.getSetCount().intValue())
+                .totalReps(totals.getRepCount().intValue())
+                .totalVolumeLifted(totals.getTotalVolume())
+                .firstWorkout(totals.getFirstWorkout())
+                .lastWorkout(totals.getLastWorkout())
+                .currentStreak(calendar.currentStreak(today.toEpochDay()))
+                .longestStreak(calendar.longestStreak())
+                .averageWorkoutsPerWeek(UserStatsAccumulator.averageWorkoutsPerWeek(
+                        totalWorkouts, totals.getFirstWorkout(), totals.getLastWorkout()))
+                .build();
+    }
+
+    /**
+     * Top PRs by estimated 1RM, read from the maintained personal record table
+     */
+    public List<PersonalRecordDTO> topPersonalRecords(Long userId) {
+        return personalRecordService.getUserPersonalRecords(userId).stream()
+                .sorted(Comparator.comparingDouble((PersonalRecordDTO pr) ->
+                        pr.getOneRepMax() != null ? pr.getOneRepMax() : 0).reversed())
+                .limit(UserStatsAccumulator.TOP_PERSONAL_RECORDS)
+                .toList();
+    }
+
+    public Map<String, UserStatsDTO.MuscleGroupStats> muscleGroupBreakdown(Long userId) {
+        Map<String, UserStatsDTO.MuscleGroupStats> breakdown = new HashMap<>();
+        for (MuscleGroupTotalsView mg : exerciseResultRepository.sumByMuscleGroup(userId)) {
+            int sets = mg.getSetCount().intValue();
+            breakdown.put(mg.getMuscleGroupName(), UserStatsDTO.MuscleGroupStats.builder()
+                    .muscleGroupName(mg.getMuscleGroupName())
+                    .timesWorked(sets)
+                    .totalVolume(mg.getTotalVolume())
+                    .totalSets(sets)
+                    .lastWorked(mg.getLastWorked())
+                    .build());
+        }
+        return breakdown;
+    }
+
+    /**
+     * Workouts and volume per ISO week, bucketed from one row per workout
+     */
+    public List<UserStatsDTO.WorkoutFrequency> workoutFrequency(Long userId) {
+        TreeMap<Integer, int[]> counts = new TreeMap<>();
+        Map<Integer, Double> volumes = new HashMap<>();
+        for (WorkoutVolumeView workout : workoutRepository.findVolumesByUserId(userId)) {
+            EntityVisits.workouts(1);
+            int key = UserStatsAccumulator.weekKey(workout.getCreatedAt());
+            counts.computeIfAbsent(key, k -> new int[1])[0]++;
+            volumes.merge(key, workout.getVolume(), Double::sum);
+        }
+
+        List<UserStatsDTO.WorkoutFrequency> frequency = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> frequency.add(UserStatsDTO.WorkoutFrequency.builder()
+                .period(UserStatsAccumulator.weekLabel(key))
+                .workoutCount(count[0])
+                .totalVolume(volumes.get(key))
+                .build()));
+        return frequency;
+    }
+}
@@ -0,0 +1,141 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.controller.exception.ServiceUnavailableException;
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.dto.UserStatsDTO;
+import com.outworkit.outworkit.entity.User;
+import com.outworkit.outworkit.repository.UserRepository;
+import com.outworkit.outworkit.metrics.EntityVisits;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Entry point for user statistics.
+ * By default the stats are folded in one pass by {@link AnalyticsService#getUserStats}. With
+ * {@code outworkit.stats.parallel.enabled=true} the sections of {@link UserStatsSections} run as
+ * parallel tasks on a bounded pool, each with its own timeout, so latency follows the slowest section.
+ * Section timings are published as {@code outworkit.stats.section} with section and outcome tags.
+ */
+@Slf4j
+@Service
+@Timed("outworkit.analytics")
+public class UserStatsService {
+
+    private final AnalyticsService analyticsService;
+    private final UserStatsSections sections;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration sectionTimeout;
+    private final ExecutorService executor;
+
+    public UserStatsService(AnalyticsService analyticsService,
+                            UserStatsSections sections,
+                            UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${outworkit.stats.parallel.enabled:false}") boolean parallel,
+                            @Value("${outworkit.stats.parallel.threads:8}") int threads,
+                            @Value("${outworkit.stats.parallel.queue-size:100}") int queueSize,
+                            @Value("${outworkit.stats.parallel.section-timeout:5s}") Duration sectionTimeout) {
+        this.analyticsService = analyticsService;
+        this.sections = sections;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeout = sectionTimeout;
+        // A full queue runs the section on the request thread instead of rejecting it
+        this.executor = parallel ? new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("user-stats-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public UserStatsDTO getUserStats(Long userId) {
+        if (executor == null) {
+            return analyticsService.getUserStats(userId);
+        }
+
+        log.info("Generating comprehensive stats for user: {} in parallel sections", userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("User not found with ID: %d", userId)));
+        LocalDate today = LocalDate.now();
+
+        CompletableFuture<UserStatsDTO.OverallStats> overall = submit("overall", () -> sections.overall(userId, today));
+        CompletableFuture<List<PersonalRecordDTO>> topPersonalRecords =
+                submit("topPersonalRecords", () -> sections.topPersonalRecords(userId));
+        CompletableFuture<Map<String, UserStatsDTO.MuscleGroupStats>> muscleGroupBreakdown =
+                submit("muscleGroupBreakdown", () -> sections.muscleGroupBreakdown(userId));
+        CompletableFuture<List<UserStatsDTO.WorkoutFrequency>> workoutFrequency =
+                submit("workoutFrequency", () -> sections.workoutFrequency(userId));
+
+        try {
+            return UserStatsDTO.builder()
+                    .userId(user.getId())
+                    .userName(user.getUserName())
+                    .overall(await("overall", overall))
+                    .topPersonalRecords(await("topPersonalRecords", topPersonalRecords))
+                    .muscleGroupBreakdown(await("muscleGroupBreakdown", muscleGroupBreakdown))
+                    .workoutFrequency(await("workoutFrequency", workoutFrequency))
+                    .build();
+        } finally {
+            // Sections still queued are dropped; running ones finish in the background
+            overall.cancel(false);
+            topPersonalRecords.cancel(false);
+            muscleGroupBreakdown.cancel(false);
+            workoutFrequency.cancel(false);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(String section, Supplier<T> task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(EntityVisits.propagate(task), executor);
+        future.orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        future.whenComplete((result, error) -> sample.stop(meterRegistry.timer("outworkit.stats.section",
+                "section", section, "outcome", outcome(error))));
+        return future;
+    }
+
+    private static <T> T await(String section, CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new ServiceUnavailableException(String.format("Stats section %s timed out", section), cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return cause instanceof CancellationException ? "cancelled" : "error";
+    }
+}
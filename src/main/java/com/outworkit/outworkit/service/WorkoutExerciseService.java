@@ -2,6 +2,9 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import com.outworkit.outworkit.dto.WorkoutExerciseDTO;
+import com.outworkit.outworkit.entity.PersonalRecord;
 import com.outworkit.outworkit.entity.WorkoutExercise;
 import com.outworkit.outworkit.repository.WorkoutExerciseRepository;
 import jakarta.transaction.Transactional;
@@ -9,8 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,27 +24,37 @@ import java.util.Optional;
 public class WorkoutExerciseService {
 
     private final WorkoutExerciseRepository workoutExerciseRepository;
-
-    public List<WorkoutExercise> getWorkoutExercises() {
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+
+    /**
+     * One page of workout exercises ordered by id, optionally filtered by workout, exercise and user
+     */
+    public KeysetPage<WorkoutExerciseDTO> getWorkoutExercises(Long workoutId, Long exerciseId, Long userId,
+                                                           String cursor, int limit, boolean descending) {
         try {
-            log.debug("Getting workout exercises");
-            List<WorkoutExercise> workoutExercises = workoutExerciseRepository.findAll();
+            log.debug("Getting workout exercises page after cursor {}", cursor);
+            List<WorkoutExerciseDTO> rows = workoutExerciseRepository.findPage(workoutId, exerciseId, userId,
+                    IdCursor.decode(cursor), descending, IdCursor.request(limit, descending));
             log.info("Workout exercises retrieved");
-            return workoutExercises;
+            return IdCursor.page(rows, limit, WorkoutExerciseDTO::getId);
         } catch (Exception e) {
             log.error("Error retrieving workout exercises", e);
             throw e;
         }
     }
 
-    public WorkoutExercise getWorkoutExercise(Long id) {
+    public WorkoutExerciseDTO getWorkoutExercise(Long id) {
         log.debug("Looking for workout exercise with ID: {}", id);
 
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return workoutExerciseRepository.findById(id)
+        return workoutExerciseRepository.findDtoById(id)
                 .orElseThrow(() -> {
                     log.warn("Workout exercise not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -64,18 +79,33 @@ public class WorkoutExerciseService {
 
         validateWorkoutExercise(workoutExercise);
 
+        DailyRollupService.DayKey previousDay = null;
+        Set<PersonalRecordService.RecordKey> records = new LinkedHashSet<>();
         if (workoutExercise.getId() != null) {
             if (!workoutExerciseRepository.existsById(workoutExercise.getId())) {
                 throw new ResourceNotFoundException(
                         String.format("Can't update workout exercise not found with ID: %d", workoutExercise.getId())
                 );
             }
+            previousDay = dailyRollupService.keyOfWorkoutExercise(workoutExercise.getId());
+            records.addAll(personalRecordService.findKeysOfWorkoutExercise(workoutExercise.getId()));
             log.info("Updating existing workout exercise ID: {}", workoutExercise.getId());
         } else {
             log.info("Creating a new workout exercise");
         }
 
         WorkoutExercise savedWorkoutExercise = workoutExerciseRepository.save(workoutExercise);
+        // Moving it to another exercise or workout moves its sets between records
+        records.addAll(personalRecordService.findKeysOfWorkoutExercise(savedWorkoutExercise.getId()));
+        personalRecordService.recomputeKeys(records);
+        DailyRollupService.DayKey day = dailyRollupService.keyOfWorkout(savedWorkoutExercise.getWorkout().getId());
+        dailyRollupService.refresh(previousDay, day);
+        if (previousDay != null) {
+            // New workout exercises carry no sets yet; only updates can change the history
+            setHistoryStore.invalidate(previousDay, day);
+        }
+        userDataVersionService.bump(previousDay, day);
+        analyticsCache.invalidate(previousDay, day);
         log.info("Workout exercise saved successfully ID: {}", savedWorkoutExercise.getId());
 
         return savedWorkoutExercise;
@@ -85,7 +115,14 @@ public class WorkoutExerciseService {
         if (!workoutExerciseRepository.existsById(id)) {
             throw new ResourceNotFoundException(String.format("Workout exercise not found with ID: %d", id));
         }
+        List<PersonalRecord> heldRecords = personalRecordService.findHeldByWorkoutExercise(id);
+        DailyRollupService.DayKey day = dailyRollupService.keyOfWorkoutExercise(id);
         workoutExerciseRepository.deleteById(id);
+        personalRecordService.recompute(heldRecords);
+        dailyRollupService.refresh(day);
+        setHistoryStore.invalidate(day);
+        userDataVersionService.bump(day);
+        analyticsCache.invalidate(day);
     }
 
     private void validateWorkoutExercise(WorkoutExercise workoutExercise) {
@@ -0,0 +1,104 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.ImportReportDTO;
+import com.outworkit.outworkit.dto.WorkoutImportRowDTO;
+
+import java.util.*;
+
+/**
+ * Reads the CSV form of a bulk import: a header naming the columns
+ * ({@code date, exercise, set, reps, weight}, in any order) and one set per line.
+ * Fields may be double-quoted. A line that cannot be read is reported and yields a null row,
+ * so row numbers stay aligned with data lines.
+ */
+final class WorkoutImportCsvReader {
+
+    private WorkoutImportCsvReader() {
+    }
+
+    static List<WorkoutImportRowDTO> read(String csv, List<ImportReportDTO.RowError> errors) {
+        String[] lines = csv.split("\r?\n");
+        if (lines.length == 0 || lines[0].isBlank()) {
+            throw new BadRequestException("CSV import needs a header line");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitLine(lines[0]);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        columns.putIfAbsent("set", columns.get("setnumber"));
+        for (String required : List.of("date", "exercise", "reps", "weight")) {
+            if (columns.get(required) == null) {
+                throw new BadRequestException("CSV header is missing column: " + required);
+            }
+        }
+
+        List<WorkoutImportRowDTO> rows = new ArrayList<>(lines.length - 1);
+        for (int n = 1; n < lines.length; n++) {
+            if (lines[n].isBlank()) {
+                rows.add(null);
+                continue;
+            }
+            List<String> fields = splitLine(lines[n]);
+            try {
+                rows.add(WorkoutImportRowDTO.builder()
+                        .date(field(fields, columns.get("date")))
+                        .exercise(field(fields, columns.get("exercise")))
+                        .setNumber(parseInteger(field(fields, columns.get("set"))))
+                        .reps(parseInteger(field(fields, columns.get("reps"))))
+                        .weight(parseDouble(field(fields, columns.get("weight"))))
+                        .build());
+            } catch (NumberFormatException e) {
+                errors.add(ImportReportDTO.RowError.builder().row(n).message("Invalid number: " + e.getMessage()).build());
+                rows.add(null);
+            }
+        }
+        return rows;
+    }
+
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String field(List<String> fields, Integer column) {
+        if (column == null || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    private static Double parseDouble(String value) {
+        return value != null ? Double.valueOf(value) : null;
+    }
+}
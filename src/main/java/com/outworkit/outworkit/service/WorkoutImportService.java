@@ -0,0 +1,264 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ImportReportDTO;
+import com.outworkit.outworkit.dto.WorkoutImportRowDTO;
+import com.outworkit.outworkit.entity.Exercise;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.WorkoutBatchInserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Bulk import of logged sets from CSV or JSON.
+ * Exercise names are resolved once against the catalog, sets sharing a date become one workout
+ * (one workout exercise per exercise), and rows are written with JDBC batches in chunks of about
+ * {@code outworkit.import.chunk-size} sets, each chunk in its own transaction.
+ * Invalid rows are skipped and reported; derived data of the user is rebuilt once at the end.
+ */
+@Slf4j
+@Service
+public class WorkoutImportService {
+
+    private final UserService userService;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutBatchInserter workoutBatchInserter;
+    private final TransactionTemplate transactionTemplate;
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final UserDataVersionService userDataVersionService;
+    private final int chunkSize;
+
+    public WorkoutImportService(UserService userService,
+                                ExerciseRepository exerciseRepository,
+                                WorkoutBatchInserter workoutBatchInserter,
+                                TransactionTemplate transactionTemplate,
+                                PersonalRecordService personalRecordService,
+                                DailyRollupService dailyRollupService,
+                                ActivityCalendarService activityCalendarService,
+                                SetHistoryStore setHistoryStore,
+                                UserDataVersionService userDataVersionService,
+                                @Value("${outworkit.import.chunk-size:2000}") int chunkSize) {
+        this.userService = userService;
+        this.exerciseRepository = exerciseRepository;
+        this.workoutBatchInserter = workoutBatchInserter;
+        this.transactionTemplate = transactionTemplate;
+        this.personalRecordService = personalRecordService;
+        this.dailyRollupService = dailyRollupService;
+        this.activityCalendarService = activityCalendarService;
+        this.setHistoryStore = setHistoryStore;
+        this.userDataVersionService = userDataVersionService;
+        this.chunkSize = chunkSize;
+    }
+
+    private record ParsedSet(int row, Integer setNumber, int reps, double weight) {
+    }
+
+    private record ChunkTotals(int workouts, int exercises, int sets) {
+    }
+
+    public ImportReportDTO importCsv(Long userId, String csv) {
+        List<ImportReportDTO.RowError> errors = new ArrayList<>();
+        List<WorkoutImportRowDTO> rows = WorkoutImportCsvReader.read(csv, errors);
+        return importRows(userId, rows, errors);
+    }
+
+    public ImportReportDTO importRows(Long userId, List<WorkoutImportRowDTO> rows) {
+        return importRows(userId, rows, new ArrayList<>());
+    }
+
+    private ImportReportDTO importRows(Long userId, List<WorkoutImportRowDTO> rows, List<ImportReportDTO.RowError> errors) {
+        userService.getUser(userId);
+        long start = System.nanoTime();
+        log.info("Importing {} rows for user: {}", rows.size(), userId);
+
+        Map<String, Long> exerciseIds = new HashMap<>();
+        for (Exercise exercise : exerciseRepository.findAll()) {
+            if (exercise.getName() != null) {
+                exerciseIds.putIfAbsent(normalize(exercise.getName()), exercise.getId());
+            }
+        }
+
+        // date -> exercise id -> sets, in date order and first-seen exercise order
+        TreeMap<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>> workouts = new TreeMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            WorkoutImportRowDTO row = rows.get(i);
+            if (row == null) {
+                continue;
+            }
+            int rowNumber = i + 1;
+            String problem = validate(row, exerciseIds);
+            if (problem != null) {
+                errors.add(ImportReportDTO.RowError.builder().row(rowNumber).message(problem).build());
+                continue;
+            }
+            workouts.computeIfAbsent(parseDate(row.getDate()), d -> new LinkedHashMap<>())
+                    .computeIfAbsent(exerciseIds.get(normalize(row.getExercise())), id -> new ArrayList<>())
+                    .add(new ParsedSet(rowNumber, row.getSetNumber(), row.getReps(), row.getWeight()));
+        }
+
+        int workoutsImported = 0;
+        int exercisesImported = 0;
+        int setsImported = 0;
+        List<Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>>> chunk = new ArrayList<>();
+        int chunkSets = 0;
+        Iterator<Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>>> iterator = workouts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>> workout = iterator.next();
+            chunk.add(workout);
+            for (List<ParsedSet> sets : workout.getValue().values()) {
+                chunkSets += sets.size();
+            }
+            if (chunkSets >= chunkSize || !iterator.hasNext()) {
+                ChunkTotals totals = writeChunk(userId, chunk, errors);
+                workoutsImported += totals.workouts();
+                exercisesImported += totals.exercises();
+                setsImported += totals.sets();
+                chunk = new ArrayList<>();
+                chunkSets = 0;
+            }
+        }
+
+        if (setsImported > 0 || workoutsImported > 0) {
+            personalRecordService.rebuildForUser(userId);
+            dailyRollupService.rebuildForUser(userId);
+            activityCalendarService.invalidate(userId);
+            setHistoryStore.invalidate(userId);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        errors.sort(Comparator.comparing(ImportReportDTO.RowError::getRow));
+        log.info("Imported {} sets in {} workouts for user: {} ({} rows rejected)",
+                setsImported, workoutsImported, userId, errors.size());
+
+        return ImportReportDTO.builder()
+                .userId(userId)
+                .rowsRead(rows.size())
+                .workoutsImported(workoutsImported)
+                .exercisesImported(exercisesImported)
+                .setsImported(setsImported)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .setsPerSecond(elapsedNanos > 0 ? setsImported * 1e9 / elapsedNanos : 0)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Write a run of whole workouts in one transaction; on failure every row of the chunk is reported
+     */
+    private ChunkTotals writeChunk(Long userId, List<Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>>> chunk,
+                                   List<ImportReportDTO.RowError> errors) {
+        List<LocalDateTime> dates = new ArrayList<>(chunk.size());
+        int exerciseCount = 0;
+        int setCount = 0;
+        for (Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>> workout : chunk) {
+            dates.add(workout.getKey());
+            exerciseCount += workout.getValue().size();
+            for (List<ParsedSet> sets : workout.getValue().values()) {
+                setCount += sets.size();
+            }
+        }
+
+        int exercises = exerciseCount;
+        int setTotal = setCount;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] workoutIds = workoutBatchInserter.insertWorkouts(userId, dates);
+
+                long[] weWorkoutIds = new long[exercises];
+                long[] weExerciseIds = new long[exercises];
+                int e = 0;
+                for (int w = 0; w < chunk.size(); w++) {
+                    for (Long exerciseId : chunk.get(w).getValue().keySet()) {
+                        weWorkoutIds[e] = workoutIds[w];
+                        weExerciseIds[e] = exerciseId;
+                        e++;
+                    }
+                }
+                long[] workoutExerciseIds = workoutBatchInserter.insertWorkoutExercises(weWorkoutIds, weExerciseIds);
+
+                long[] resultWorkoutExerciseIds = new long[setTotal];
+                int[] setNumbers = new int[setTotal];
+                int[] reps = new int[setTotal];
+                double[] weights = new double[setTotal];
+                int s = 0;
+                e = 0;
+                for (Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>> workout : chunk) {
+                    for (List<ParsedSet> sets : workout.getValue().values()) {
+                        for (int i = 0; i < sets.size(); i++) {
+                            ParsedSet set = sets.get(i);
+                            resultWorkoutExerciseIds[s] = workoutExerciseIds[e];
+                            setNumbers[s] = set.setNumber() != null ? set.setNumber() : i + 1;
+                            reps[s] = set.reps();
+                            weights[s] = set.weight();
+                            s++;
+                        }
+                        e++;
+                    }
+                }
+                workoutBatchInserter.insertResults(resultWorkoutExerciseIds, setNumbers, reps, weights);
+                userDataVersionService.bump(userId);
+            });
+        } catch (RuntimeException ex) {
+            // Any failure only rolls back this chunk; the rest still import and the final rebuild still runs
+            log.error("Import chunk of {} workouts failed for user: {}", chunk.size(), userId, ex);
+            for (Map.Entry<LocalDateTime, LinkedHashMap<Long, List<ParsedSet>>> workout : chunk) {
+                for (List<ParsedSet> sets : workout.getValue().values()) {
+                    for (ParsedSet set : sets) {
+                        errors.add(ImportReportDTO.RowError.builder()
+                                .row(set.row())
+                                .message("Not saved, chunk failed: " + ex.getMessage())
+                                .build());
+                    }
+                }
+            }
+            return new ChunkTotals(0, 0, 0);
+        }
+        return new ChunkTotals(chunk.size(), exercises, setTotal);
+    }
+
+    private static String validate(WorkoutImportRowDTO row, Map<String, Long> exerciseIds) {
+        if (row.getDate() == null) {
+            return "date is required";
+        }
+        if (parseDate(row.getDate()) == null) {
+            return "Invalid date: " + row.getDate();
+        }
+        if (row.getExercise() == null || row.getExercise().isBlank()) {
+            return "exercise is required";
+        }
+        if (!exerciseIds.containsKey(normalize(row.getExercise()))) {
+            return "Unknown exercise: " + row.getExercise();
+        }
+        if (row.getReps() == null || row.getReps() < 0) {
+            return "reps must be zero or positive";
+        }
+        if (row.getWeight() == null || row.getWeight() < 0 || row.getWeight().isNaN() || row.getWeight().isInfinite()) {
+            return "weight must be zero or positive";
+        }
+        if (row.getSetNumber() != null && row.getSetNumber() < 1) {
+            return "set must be positive";
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String normalize(String exerciseName) {
+        return exerciseName.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,6 +2,9 @@ package com.outworkit.outworkit.service;
 
 import com.outworkit.outworkit.controller.exception.BadRequestException;
 import com.outworkit.outworkit.controller.exception.ResourceNotFoundException;
+import com.outworkit.outworkit.dto.KeysetPage;
+import com.outworkit.outworkit.dto.WorkoutDTO;
+import com.outworkit.outworkit.entity.PersonalRecord;
 import com.outworkit.outworkit.entity.Workout;
 import com.outworkit.outworkit.repository.WorkoutRepository;
 import jakarta.transaction.Transactional;
@@ -9,8 +12,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,27 +25,38 @@ import java.util.Optional;
 public class WorkoutService {
 
     private final WorkoutRepository workoutRepository;
-
-    public List<Workout> getWorkouts() {
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+
+    /**
+     * One page of workouts ordered by id, optionally filtered by user, split and date range
+     */
+    public KeysetPage<WorkoutDTO> getWorkouts(Long userId, Long splitId, LocalDateTime startDate, LocalDateTime endDate,
+                                           String cursor, int limit, boolean descending) {
         try {
-            log.debug("Getting workouts");
-            List<Workout> workouts = workoutRepository.findAll();
+            log.debug("Getting workouts page after cursor {}", cursor);
+            List<WorkoutDTO> rows = workoutRepository.findPage(userId, splitId, startDate, endDate,
+                    IdCursor.decode(cursor), descending, IdCursor.request(limit, descending));
             log.info("Workouts retrieved");
-            return workouts;
+            return IdCursor.page(rows, limit, WorkoutDTO::getId);
         } catch (Exception e) {
             log.error("Error retrieving workouts", e);
             throw e;
         }
     }
 
-    public Workout getWorkout(Long id) {
+    public WorkoutDTO getWorkout(Long id) {
         log.debug("Looking for workout with ID: {}", id);
 
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
         }
 
-        return workoutRepository.findById(id)
+        return workoutRepository.findDtoById(id)
                 .orElseThrow(() -> {
                     log.warn("Workout not found with id {}", id);
                     return new ResourceNotFoundException(
@@ -64,18 +81,44 @@ public class WorkoutService {
 
         validateWorkout(workout);
 
+        boolean creating = workout.getId() == null;
+        DailyRollupService.DayKey previousDay = null;
+        Set<PersonalRecordService.RecordKey> records = new LinkedHashSet<>();
         if (workout.getId() != null) {
-            if (!workoutRepository.existsById(workout.getId())) {
-                throw new ResourceNotFoundException(
-                        String.format("Can't update workout not found with ID: %d", workout.getId())
-                );
+            Workout existing = workoutRepository.findById(workout.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            String.format("Can't update workout not found with ID: %d", workout.getId())
+                    ));
+            previousDay = dailyRollupService.keyOf(existing);
+            records.addAll(personalRecordService.findKeysOfWorkout(workout.getId()));
+            // Rollups, streaks and records are all dated by the workout; keep the date when an update leaves it out
+            if (workout.getCreatedAt() == null) {
+                workout.setCreatedAt(existing.getCreatedAt());
             }
             log.info("Updating existing workout ID: {}", workout.getId());
         } else {
+            if (workout.getCreatedAt() == null) {
+                workout.setCreatedAt(LocalDateTime.now());
+            }
             log.info("Creating a new workout");
         }
 
         Workout savedWorkout = workoutRepository.save(workout);
+        // A new user or date moves the workout's sets between records and changes their dates
+        records.addAll(personalRecordService.findKeysOfWorkout(savedWorkout.getId()));
+        personalRecordService.recomputeKeys(records);
+        dailyRollupService.refresh(previousDay, dailyRollupService.keyOf(savedWorkout));
+        if (creating) {
+            activityCalendarService.onWorkoutCreated(savedWorkout.getUser().getId(), savedWorkout.getCreatedAt());
+        } else {
+            activityCalendarService.invalidate(savedWorkout.getUser().getId());
+            if (previousDay != null) {
+                activityCalendarService.invalidate(previousDay.userId());
+            }
+            setHistoryStore.invalidate(savedWorkout.getUser().getId(), previousDay != null ? previousDay.userId() : null);
+        }
+        userDataVersionService.bump(savedWorkout.getUser().getId(), previousDay != null ? previousDay.userId() : null);
+        analyticsCache.invalidate(savedWorkout.getUser().getId(), previousDay != null ? previousDay.userId() : null);
         log.info("Workout saved successfully ID: {}", savedWorkout.getId());
 
         return savedWorkout;
@@ -85,7 +128,17 @@ public class WorkoutService {
         if (!workoutRepository.existsById(id)) {
             throw new ResourceNotFoundException(String.format("Workout not found with ID: %d", id));
         }
+        List<PersonalRecord> heldRecords = personalRecordService.findHeldByWorkout(id);
+        DailyRollupService.DayKey day = dailyRollupService.keyOfWorkout(id);
         workoutRepository.deleteById(id);
+        personalRecordService.recompute(heldRecords);
+        dailyRollupService.refresh(day);
+        if (day != null) {
+            activityCalendarService.invalidate(day.userId());
+        }
+        setHistoryStore.invalidate(day);
+        userDataVersionService.bump(day);
+        analyticsCache.invalidate(day);
     }
 
     private void validateWorkout(Workout workout) {
@@ -0,0 +1,161 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.WorkoutSessionDTO;
+import com.outworkit.outworkit.dto.WorkoutSessionResultDTO;
+import com.outworkit.outworkit.entity.Exercise;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.SplitRepository;
+import com.outworkit.outworkit.repository.UserRepository;
+import com.outworkit.outworkit.repository.WorkoutBatchInserter;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Creates a workout with all of its exercises and sets in one transaction.
+ * References are checked with one query per kind (user, split, all exercises), and the
+ * workout exercises and sets are each written as a single JDBC batch.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class WorkoutSessionService {
+
+    private final UserRepository userRepository;
+    private final SplitRepository splitRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutBatchInserter workoutBatchInserter;
+    private final PersonalRecordService personalRecordService;
+    private final DailyRollupService dailyRollupService;
+    private final ActivityCalendarService activityCalendarService;
+    private final SetHistoryStore setHistoryStore;
+    private final AnalyticsCache analyticsCache;
+    private final UserDataVersionService userDataVersionService;
+
+    public WorkoutSessionResultDTO create(WorkoutSessionDTO session) {
+        validateSession(session);
+        Long userId = session.getUserId();
+        LocalDateTime createdAt = session.getCreatedAt() != null ? session.getCreatedAt() : LocalDateTime.now();
+        List<WorkoutSessionDTO.ExerciseEntry> entries = session.getExercises() != null ? session.getExercises() : List.of();
+        log.info("Creating workout session for user: {} with {} exercises", userId, entries.size());
+
+        long workoutId = workoutBatchInserter.insertWorkouts(userId, session.getSplitId(), List.of(createdAt))[0];
+
+        long[] weWorkoutIds = new long[entries.size()];
+        long[] weExerciseIds = new long[entries.size()];
+        int setCount = 0;
+        for (int e = 0; e < entries.size(); e++) {
+            weWorkoutIds[e] = workoutId;
+            weExerciseIds[e] = entries.get(e).getExerciseId();
+            setCount += sets(entries.get(e)).size();
+        }
+        long[] workoutExerciseIds = workoutBatchInserter.insertWorkoutExercises(weWorkoutIds, weExerciseIds);
+
+        long[] resultWorkoutExerciseIds = new long[setCount];
+        int[] setNumbers = new int[setCount];
+        int[] reps = new int[setCount];
+        double[] weights = new double[setCount];
+        int s = 0;
+        for (int e = 0; e < entries.size(); e++) {
+            List<WorkoutSessionDTO.SetEntry> sets = sets(entries.get(e));
+            for (int i = 0; i < sets.size(); i++) {
+                WorkoutSessionDTO.SetEntry set = sets.get(i);
+                resultWorkoutExerciseIds[s] = workoutExerciseIds[e];
+                setNumbers[s] = set.getSetNumber() != null ? set.getSetNumber() : i + 1;
+                reps[s] = set.getReps();
+                weights[s] = set.getWeight();
+                s++;
+            }
+        }
+        long[] resultIds = workoutBatchInserter.insertResultsReturningIds(resultWorkoutExerciseIds, setNumbers, reps, weights);
+
+        // Derived data is refreshed once for the session instead of once per set
+        for (Long exerciseId : new LinkedHashSet<>(entries.stream().map(WorkoutSessionDTO.ExerciseEntry::getExerciseId).toList())) {
+            personalRecordService.recompute(userId, exerciseId);
+        }
+        dailyRollupService.refreshDay(userId, createdAt.toLocalDate());
+        activityCalendarService.onWorkoutCreated(userId, createdAt);
+        setHistoryStore.invalidate(userId);
+        userDataVersionService.bump(userId);
+        analyticsCache.invalidate(userId);
+
+        List<WorkoutSessionResultDTO.ExerciseIds> exercises = new ArrayList<>(entries.size());
+        s = 0;
+        for (int e = 0; e < entries.size(); e++) {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < sets(entries.get(e)).size(); i++) {
+                ids.add(resultIds[s++]);
+            }
+            exercises.add(WorkoutSessionResultDTO.ExerciseIds.builder()
+                    .workoutExerciseId(workoutExerciseIds[e])
+                    .exerciseId(weExerciseIds[e])
+                    .resultIds(ids)
+                    .build());
+        }
+        log.info("Workout session saved successfully ID: {} ({} sets)", workoutId, setCount);
+
+        return WorkoutSessionResultDTO.builder()
+                .workoutId(workoutId)
+                .createdAt(createdAt)
+                .exercises(exercises)
+                .build();
+    }
+
+    private void validateSession(WorkoutSessionDTO session) {
+        if (session == null) {
+            throw new BadRequestException("Workout session can't be null");
+        }
+        if (session.getUserId() == null) {
+            throw new BadRequestException("Workout session must have a userId");
+        }
+        if (!userRepository.existsById(session.getUserId())) {
+            throw new BadRequestException(String.format("User with ID %d does not exist", session.getUserId()));
+        }
+        if (session.getSplitId() != null && !splitRepository.existsById(session.getSplitId())) {
+            throw new BadRequestException(String.format("Split with ID %d does not exist", session.getSplitId()));
+        }
+        if (session.getExercises() == null) {
+            return;
+        }
+
+        Set<Long> exerciseIds = new HashSet<>();
+        for (int e = 0; e < session.getExercises().size(); e++) {
+            WorkoutSessionDTO.ExerciseEntry entry = session.getExercises().get(e);
+            if (entry == null || entry.getExerciseId() == null) {
+                throw new BadRequestException(String.format("exercises[%d] must have an exerciseId", e));
+            }
+            exerciseIds.add(entry.getExerciseId());
+            List<WorkoutSessionDTO.SetEntry> sets = sets(entry);
+            for (int i = 0; i < sets.size(); i++) {
+                WorkoutSessionDTO.SetEntry set = sets.get(i);
+                if (set == null || set.getReps() == null || set.getReps() < 0) {
+                    throw new BadRequestException(String.format("exercises[%d].sets[%d].reps must be zero or positive", e, i));
+                }
+                if (set.getWeight() == null || set.getWeight() < 0 || set.getWeight().isNaN() || set.getWeight().isInfinite()) {
+                    throw new BadRequestException(String.format("exercises[%d].sets[%d].weight must be zero or positive", e, i));
+                }
+                if (set.getSetNumber() != null && set.getSetNumber() < 1) {
+                    throw new BadRequestException(String.format("exercises[%d].sets[%d].setNumber must be positive", e, i));
+                }
+            }
+        }
+
+        Set<Long> missing = new TreeSet<>(exerciseIds);
+        for (Exercise exercise : exerciseRepository.findAllById(exerciseIds)) {
+            missing.remove(exercise.getId());
+        }
+        if (!missing.isEmpty()) {
+            throw new BadRequestException(String.format("Exercises not found with IDs: %s", missing));
+        }
+    }
+
+    private static List<WorkoutSessionDTO.SetEntry> sets(WorkoutSessionDTO.ExerciseEntry entry) {
+        return entry.getSets() != null ? entry.getSets() : List.of();
+    }
+}
@@ -1,6 +1,7 @@
 package com.outworkit.outworkit.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outworkit.outworkit.dto.EquipmentDTO;
 import com.outworkit.outworkit.entity.Equipment;
 import com.outworkit.outworkit.service.EquipmentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,7 +58,7 @@ class EquipmentControllerTest {
         @Test
         void getAllEquipments_ShouldReturnListOfEquipments() throws Exception {
                 // Given
-                when(equipmentService.getEquipments()).thenReturn(equipmentList);
+                when(equipmentService.getEquipments()).thenReturn(equipmentList.stream().map(EquipmentDTO::from).toList());
 
                 // When & Then
                 mockMvc.perform(get("/api/v1/equipment"))
@@ -95,7 +96,7 @@ class EquipmentControllerTest {
         void getEquipmentById_WithValidId_ShouldReturnEquipment() throws Exception {
                 // Given
                 Long equipmentId = 1L;
-                when(equipmentService.getEquipment(equipmentId)).thenReturn(equipment1);
+                when(equipmentService.getEquipment(equipmentId)).thenReturn(EquipmentDTO.from(equipment1));
 
                 // When & Then
                 mockMvc.perform(get("/api/v1/equipment/{equipmentId}", equipmentId))
@@ -274,8 +275,8 @@ class EquipmentControllerTest {
         @Test
         void getAllEndpoints_ShouldHaveCorrectContentType() throws Exception {
                 // Given
-                when(equipmentService.getEquipments()).thenReturn(equipmentList);
-                when(equipmentService.getEquipment(1L)).thenReturn(equipment1);
+                when(equipmentService.getEquipments()).thenReturn(equipmentList.stream().map(EquipmentDTO::from).toList());
+                when(equipmentService.getEquipment(1L)).thenReturn(EquipmentDTO.from(equipment1));
                 when(equipmentService.saveOrUpdate(any(Equipment.class))).thenReturn(equipment1);
 
                 // Test GET all
@@ -0,0 +1,48 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.DailyExerciseRollup;
+import com.outworkit.outworkit.entity.Exercise;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DailyExerciseRollupRepositoryTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private DailyExerciseRollupRepository rollupRepository;
+
+        @Test
+        void sumVolumeByWeek_keepsIsoWeeksTogetherAcrossNewYear() {
+                Exercise exercise = new Exercise();
+                exercise.setName("Bench Press");
+                entityManager.persist(exercise);
+                // 2022-12-26 to 2023-01-01 is 2022-W52; 2022-01-01 and 2022-01-02 are 2021-W52
+                for (String day : List.of("2022-01-01", "2022-01-02", "2022-01-03", "2022-12-26", "2022-12-31", "2023-01-01")) {
+                        DailyExerciseRollup rollup = new DailyExerciseRollup();
+                        rollup.setUserId(1L);
+                        rollup.setTrainingDay(LocalDate.parse(day));
+                        rollup.setExercise(exercise);
+                        rollup.setSetCount(1);
+                        rollup.setRepCount(10);
+                        rollup.setVolume(100);
+                        entityManager.persist(rollup);
+                }
+
+                List<VolumeBucketView> weeks = rollupRepository.sumVolumeByWeek(1L, null, null);
+
+                assertEquals(List.of(LocalDate.parse("2022-01-01"), LocalDate.parse("2022-01-03"), LocalDate.parse("2022-12-26")),
+                        weeks.stream().map(VolumeBucketView::getPeriodStart).toList());
+                assertEquals(List.of(2L, 1L, 3L), weeks.stream().map(VolumeBucketView::getSetCount).toList());
+                assertEquals(300.0, weeks.get(2).getTotalVolume());
+        }
+}
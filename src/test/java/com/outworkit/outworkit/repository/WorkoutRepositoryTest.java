@@ -0,0 +1,76 @@
+package com.outworkit.outworkit.repository;
+
+import com.outworkit.outworkit.entity.User;
+import com.outworkit.outworkit.entity.Workout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class WorkoutRepositoryTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private WorkoutRepository workoutRepository;
+
+        @Test
+        void countByWeek_keepsIsoWeeksTogetherAcrossNewYear() {
+                User user = entityManager.persist(new User());
+                // 2024-W01 runs Mon Jan 1 to Sun Jan 7 2024; 2025-W01 runs Mon Dec 30 2024 to Sun Jan 5 2025
+                for (String date : List.of("2024-01-01", "2024-01-05", "2024-12-29", "2024-12-30", "2024-12-31",
+                        "2025-01-01", "2025-01-05", "2025-01-06")) {
+                        Workout workout = new Workout();
+                        workout.setUser(user);
+                        workout.setCreatedAt(LocalDateTime.parse(date + "T18:00"));
+                        entityManager.persist(workout);
+                }
+
+                List<WorkoutCountView> weeks = workoutRepository.countByWeek(user.getId(), null, null);
+
+                assertEquals(List.of("2024-01-01T18:00", "2024-12-29T18:00", "2024-12-30T18:00", "2025-01-06T18:00"),
+                        weeks.stream().map(week -> week.getPeriodStart().toString()).toList());
+                assertEquals(List.of(2L, 1L, 4L, 1L), weeks.stream().map(WorkoutCountView::getWorkoutCount).toList());
+        }
+
+        @Test
+        void userStatsQueries_leaveOutUndatedWorkouts() {
+                User user = entityManager.persist(new User());
+                workout(user, null);
+                workout(user, LocalDateTime.parse("2025-03-10T18:00"));
+
+                List<WorkoutVolumeView> volumes = workoutRepository.findVolumesByUserId(user.getId());
+                UserTotalsView totals = workoutRepository.sumTotalsByUserId(user.getId());
+
+                assertEquals(List.of(LocalDateTime.parse("2025-03-10T18:00")),
+                        volumes.stream().map(WorkoutVolumeView::getCreatedAt).toList());
+                assertEquals(1L, totals.getWorkoutCount());
+        }
+
+        @Test
+        void countByDay_leavesOutUndatedWorkouts() {
+                User user = entityManager.persist(new User());
+                workout(user, null);
+                workout(user, LocalDateTime.parse("2025-03-10T18:00"));
+
+                List<WorkoutCountView> days = workoutRepository.countByDay(user.getId(), null, null);
+
+                assertEquals(1, days.size());
+                assertEquals(LocalDateTime.parse("2025-03-10T18:00"), days.get(0).getPeriodStart());
+                assertEquals(1L, days.get(0).getWorkoutCount());
+        }
+
+        private void workout(User user, LocalDateTime createdAt) {
+                Workout workout = new Workout();
+                workout.setUser(user);
+                workout.setCreatedAt(createdAt);
+                entityManager.persist(workout);
+        }
+}
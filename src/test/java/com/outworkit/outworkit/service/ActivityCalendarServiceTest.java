@@ -0,0 +1,66 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.repository.WorkoutRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ActivityCalendarServiceTest {
+
+        private static final LocalDateTime MONDAY = LocalDate.of(2025, 3, 10).atTime(18, 0);
+
+        private final WorkoutRepository workoutRepository = mock(WorkoutRepository.class);
+        private final ActivityCalendarService service =
+                new ActivityCalendarService(workoutRepository, mock(PlatformTransactionManager.class), 100);
+
+        @Test
+        void getCalendar_doesNotCacheALoadThatRacedACreatedWorkout() {
+                when(workoutRepository.findCreatedAtByUserId(1L))
+                        .thenAnswer(invocation -> {
+                                // The workout commits after the dates were read
+                                service.onWorkoutCreated(1L, MONDAY.plusDays(1));
+                                return List.of(MONDAY);
+                        })
+                        .thenReturn(List.of(MONDAY, MONDAY.plusDays(1)));
+
+                assertEquals(1, service.getCalendar(1L).activeDays());
+                assertEquals(2, service.getCalendar(1L).activeDays());
+                assertEquals(2, service.getCalendar(1L).activeDays());
+                verify(workoutRepository, times(2)).findCreatedAtByUserId(1L);
+        }
+
+        @Test
+        void getCalendar_doesNotCacheALoadThatRacedAnInvalidation() {
+                when(workoutRepository.findCreatedAtByUserId(1L))
+                        .thenAnswer(invocation -> {
+                                service.invalidate(1L);
+                                return List.of(MONDAY, MONDAY.plusDays(1));
+                        })
+                        .thenReturn(List.of(MONDAY));
+
+                assertEquals(2, service.getCalendar(1L).activeDays());
+                assertEquals(1, service.getCalendar(1L).activeDays());
+                assertEquals(1, service.getCalendar(1L).activeDays());
+                verify(workoutRepository, times(2)).findCreatedAtByUserId(1L);
+        }
+
+        @Test
+        void getCalendar_cachesALoadThatRacedAnotherUsersWrite() {
+                when(workoutRepository.findCreatedAtByUserId(1L)).thenAnswer(invocation -> {
+                        service.onWorkoutCreated(2L, MONDAY);
+                        service.invalidate(2L);
+                        return List.of(MONDAY);
+                });
+
+                service.getCalendar(1L);
+                service.getCalendar(1L);
+
+                verify(workoutRepository, times(1)).findCreatedAtByUserId(1L);
+        }
+}
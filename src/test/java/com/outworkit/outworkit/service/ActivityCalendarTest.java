@@ -0,0 +1,95 @@
+package com.outworkit.outworkit.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityCalendarTest {
+
+        private static final long TODAY = 20_000;
+
+        @Test
+        void currentStreak_toleratesSingleRestDays() {
+                ActivityCalendar calendar = ActivityCalendar.of(TODAY - 10, TODAY - 4, TODAY - 2, TODAY);
+
+                assertEquals(3, calendar.currentStreak(TODAY));
+        }
+
+        @Test
+        void currentStreak_startsFromYesterday() {
+                ActivityCalendar calendar = ActivityCalendar.of(TODAY - 2, TODAY - 1);
+
+                assertEquals(2, calendar.currentStreak(TODAY));
+                assertEquals(0, calendar.currentStreak(TODAY + 1));
+                assertEquals(0, ActivityCalendar.EMPTY.currentStreak(TODAY));
+        }
+
+        @Test
+        void longestStreak_countsConsecutiveDaysAcrossWords() {
+                long[] days = new long[100];
+                for (int i = 0; i < days.length; i++) {
+                        days[i] = 60 + i; // spans three 64-day words
+                }
+                ActivityCalendar calendar = ActivityCalendar.of(days).with(10).with(11);
+
+                assertEquals(100, calendar.longestStreak());
+                assertEquals(0, ActivityCalendar.EMPTY.longestStreak());
+        }
+
+        @Test
+        void with_growsInBothDirectionsWithoutMutating() {
+                ActivityCalendar calendar = ActivityCalendar.of(TODAY);
+                ActivityCalendar grown = calendar.with(TODAY - 500).with(TODAY + 500);
+
+                assertFalse(calendar.isActive(TODAY - 500));
+                assertTrue(grown.isActive(TODAY - 500));
+                assertTrue(grown.isActive(TODAY + 500));
+                assertEquals(3, grown.activeDays());
+                assertArrayEquals(new long[]{TODAY - 500, TODAY}, grown.activeDaysBetween(TODAY - 600, TODAY));
+        }
+
+        @Test
+        void streaks_matchNaiveScanOnRandomCalendars() {
+                Random random = new Random(42);
+                for (int run = 0; run < 200; run++) {
+                        TreeSet<Long> days = new TreeSet<>();
+                        for (long day = TODAY - 400; day <= TODAY + 3; day++) {
+                                if (random.nextInt(10) < 6) {
+                                        days.add(day);
+                                }
+                        }
+                        ActivityCalendar calendar = ActivityCalendar.of(days.stream().mapToLong(Long::longValue).toArray());
+
+                        assertEquals(naiveCurrentStreak(days), calendar.currentStreak(TODAY), days::toString);
+                        assertEquals(naiveLongestStreak(days), calendar.longestStreak(), days::toString);
+                }
+        }
+
+        private static int naiveCurrentStreak(TreeSet<Long> days) {
+                int streak = 0;
+                long current = TODAY;
+                while (days.contains(current) || days.contains(current - 1)) {
+                        if (days.contains(current)) {
+                                streak++;
+                        }
+                        current--;
+                }
+                return streak;
+        }
+
+        private static int naiveLongestStreak(TreeSet<Long> days) {
+                Long[] sorted = days.toArray(new Long[0]);
+                Arrays.sort(sorted);
+                int longest = sorted.length > 0 ? 1 : 0;
+                int current = 1;
+                for (int i = 1; i < sorted.length; i++) {
+                        current = sorted[i] - sorted[i - 1] == 1 ? current + 1 : 1;
+                        longest = Math.max(longest, current);
+                }
+                return longest;
+        }
+}
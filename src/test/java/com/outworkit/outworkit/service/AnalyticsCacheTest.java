@@ -0,0 +1,94 @@
+package com.outworkit.outworkit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsCacheTest {
+
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        @Test
+        void get_cachesUntilUserIsInvalidated() {
+                AnalyticsCache cache = new AnalyticsCache(registry, true, 100, Duration.ofMinutes(10));
+                AtomicInteger loads = new AtomicInteger();
+
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+                cache.invalidate(1L);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+
+                assertEquals(3, loads.get());
+                assertEquals(2.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+                assertEquals(3.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        }
+
+        @Test
+        void get_evictsLeastRecentlyUsedBeyondLimit() {
+                AnalyticsCache cache = new AnalyticsCache(registry, true, 2, Duration.ofMinutes(10));
+                AtomicInteger loads = new AtomicInteger();
+
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(3L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+
+                assertEquals(4, loads.get());
+                assertEquals(2.0, registry.get("cache.evictions").functionCounter().count());
+        }
+
+        @Test
+        void get_reloadsExpiredEntries() {
+                AnalyticsCache cache = new AnalyticsCache(registry, true, 100, Duration.ZERO);
+                AtomicInteger loads = new AtomicInteger();
+
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+
+                assertEquals(2, loads.get());
+        }
+
+        @Test
+        void get_cachesOnlyIfNoWriteToTheSameUserCommittedWhileLoading() {
+                AnalyticsCache cache = new AnalyticsCache(registry, true, 100, Duration.ofMinutes(10));
+                AtomicInteger loads = new AtomicInteger();
+
+                cache.get(1L, "stats", List.of(), () -> {
+                        cache.invalidate(2L);
+                        return loads.incrementAndGet();
+                });
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), () -> {
+                        cache.invalidate(2L);
+                        return loads.incrementAndGet();
+                });
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(2L, "stats", List.of(), loads::incrementAndGet);
+
+                assertEquals(3, loads.get());
+        }
+
+        @Test
+        void get_doesNotCacheValuesLoadedWhileEverythingWasInvalidated() {
+                AnalyticsCache cache = new AnalyticsCache(registry, true, 100, Duration.ofMinutes(10));
+                AtomicInteger loads = new AtomicInteger();
+
+                cache.get(1L, "stats", List.of(), () -> {
+                        cache.invalidateAll();
+                        return loads.incrementAndGet();
+                });
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+                cache.get(1L, "stats", List.of(), loads::incrementAndGet);
+
+                assertEquals(2, loads.get());
+        }
+}
@@ -0,0 +1,114 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ExerciseProgressDTO;
+import com.outworkit.outworkit.entity.*;
+import com.outworkit.outworkit.repository.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalyticsServiceTest {
+
+        private static final long USER_ID = 1L;
+        private static final LocalDateTime DAY = LocalDate.of(2025, 3, 10).atTime(18, 0);
+
+        private final Exercise bench = exercise(1L, "Bench Press");
+        private final Exercise squat = exercise(2L, "Squat");
+        private final List<Workout> workouts = new ArrayList<>();
+        private long resultIds;
+
+        @Test
+        void getExerciseProgress_isTheSameFromWorkoutsAndFromSetHistory() {
+                // Bench logged twice in one workout, around a squat entry
+                Workout first = workout(1L, DAY);
+                entry(first, 10L, bench, 100, 5, 105, 3);
+                entry(first, 11L, squat, 140, 5);
+                entry(first, 12L, bench, 110, 2);
+                // Two workouts at the same time, told apart by id
+                entry(workout(2L, DAY.plusDays(2)), 20L, bench, 107.5, 5, 107.5, 4);
+                entry(workout(3L, DAY.plusDays(2)), 30L, bench, 60, 12);
+                entry(workout(4L, DAY.plusDays(5)), 40L, squat, 150, 3);
+
+                ExerciseProgressDTO fromWorkouts = progress(false);
+                ExerciseProgressDTO fromSetHistory = progress(true);
+
+                assertEquals(List.of(1L, 1L, 2L, 3L), fromWorkouts.getProgressData().stream()
+                        .map(ExerciseProgressDTO.ProgressDataPoint::getWorkoutId).toList());
+                assertEquals(fromWorkouts, fromSetHistory);
+        }
+
+        private ExerciseProgressDTO progress(boolean fromSetHistory) {
+                WorkoutTreeLoader workoutTreeLoader = mock(WorkoutTreeLoader.class);
+                when(workoutTreeLoader.loadForUser(USER_ID, null, null)).thenReturn(workouts);
+                ExerciseResultRepository exerciseResultRepository = mock(ExerciseResultRepository.class);
+                when(exerciseResultRepository.findSetRows(USER_ID, null, null)).thenReturn(setRows());
+                ExerciseRepository exerciseRepository = mock(ExerciseRepository.class);
+                when(exerciseRepository.findById(bench.getId())).thenReturn(Optional.of(bench));
+
+                SetHistoryStore setHistoryStore = new SetHistoryStore(exerciseResultRepository,
+                        mock(WorkoutExerciseRepository.class), fromSetHistory, 1 << 20);
+                AnalyticsService analyticsService = new AnalyticsService(mock(WorkoutRepository.class),
+                        exerciseResultRepository, mock(UserRepository.class), mock(PersonalRecordService.class),
+                        mock(DailyExerciseRollupRepository.class), mock(ActivityCalendarService.class), setHistoryStore,
+                        exerciseRepository, mock(WorkoutExerciseRepository.class), workoutTreeLoader);
+                return analyticsService.getExerciseProgress(USER_ID, bench.getId(), null, null);
+        }
+
+        /**
+         * The fixture's sets as findSetRows returns them: by date, workout, workout exercise and set
+         */
+        private List<SetRowView> setRows() {
+                List<SetRowView> rows = new ArrayList<>();
+                for (Workout workout : workouts) {
+                        for (WorkoutExercise we : workout.getWorkoutExercises()) {
+                                for (ExerciseResult result : we.getResults()) {
+                                        rows.add(new SetRowView(result.getId(), workout.getId(), we.getId(),
+                                                workout.getCreatedAt(), we.getExercise().getId(), result.getWeight(),
+                                                result.getReps()));
+                                }
+                        }
+                }
+                return rows;
+        }
+
+        private Workout workout(Long id, LocalDateTime createdAt) {
+                Workout workout = new Workout();
+                workout.setId(id);
+                workout.setCreatedAt(createdAt);
+                workouts.add(workout);
+                return workout;
+        }
+
+        /**
+         * Adds an exercise entry with sets given as weight, reps pairs
+         */
+        private void entry(Workout workout, Long id, Exercise exercise, double... weightsAndReps) {
+                WorkoutExercise we = new WorkoutExercise();
+                we.setId(id);
+                we.setWorkout(workout);
+                we.setExercise(exercise);
+                for (int i = 0; i < weightsAndReps.length; i += 2) {
+                        ExerciseResult result = new ExerciseResult();
+                        result.setId(++resultIds);
+                        result.setWeight(weightsAndReps[i]);
+                        result.setReps((int) weightsAndReps[i + 1]);
+                        we.getResults().add(result);
+                }
+                workout.getWorkoutExercises().add(we);
+        }
+
+        private static Exercise exercise(Long id, String name) {
+                Exercise exercise = new Exercise();
+                exercise.setId(id);
+                exercise.setName(name);
+                return exercise;
+        }
+}
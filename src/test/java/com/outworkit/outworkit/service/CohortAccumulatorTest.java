@@ -0,0 +1,65 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.CohortReportDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortAccumulatorTest {
+
+        private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+        @Test
+        void addVolume_bucketsByWeekSinceSignup() {
+                CohortAccumulator accumulator = new CohortAccumulator(4, TODAY);
+                LocalDate joined = LocalDate.of(2025, 2, 20);
+                accumulator.addUser(joined);
+                accumulator.addVolume(joined, joined, "Chest", 100);
+                accumulator.addVolume(joined, joined.plusDays(6), "Chest", 50);
+                accumulator.addVolume(joined, joined.plusDays(7), "Legs", 200);
+                accumulator.addVolume(joined, joined.minusDays(1), "Legs", 40);
+
+                CohortReportDTO.Cohort cohort = accumulator.toCohorts().get(0);
+
+                assertEquals("2025-02", cohort.getCohort());
+                assertEquals(390.0, cohort.getTotalVolume());
+                assertEquals(150.0, cohort.getWeeklyVolume().get(0).getAverageVolume());
+                assertEquals(200.0, cohort.getWeeklyVolume().get(1).getAverageVolume());
+                // Week 3 starts on March 13, after today
+                assertEquals(0, cohort.getWeeklyVolume().get(3).getUsers());
+                assertNull(cohort.getWeeklyVolume().get(3).getAverageVolume());
+                assertEquals(240.0, cohort.getMuscleGroupVolume().get("Legs"));
+        }
+
+        @Test
+        void merge_matchesSinglePass() {
+                LocalDate janUser = LocalDate.of(2025, 1, 5);
+                LocalDate janOther = LocalDate.of(2025, 1, 20);
+                LocalDate febUser = LocalDate.of(2025, 2, 1);
+
+                CohortAccumulator single = new CohortAccumulator(3, TODAY);
+                CohortAccumulator first = new CohortAccumulator(3, TODAY);
+                CohortAccumulator second = new CohortAccumulator(3, TODAY);
+                for (CohortAccumulator target : List.of(single, first)) {
+                        target.addUser(janUser);
+                        target.addVolume(janUser, janUser.plusDays(2), "Chest", 80);
+                        target.addUserWithoutCohort();
+                }
+                for (CohortAccumulator target : List.of(single, second)) {
+                        target.addUser(janOther);
+                        target.addVolume(janOther, janOther.plusDays(9), "Back", 120);
+                        target.addUser(febUser);
+                        target.addVolume(febUser, febUser, "Chest", 60);
+                }
+
+                first.merge(second);
+
+                assertEquals(single.users(), first.users());
+                assertEquals(1, first.usersWithoutCohort());
+                assertEquals(single.toCohorts(), first.toCohorts());
+                assertEquals(40.0, first.toCohorts().get(0).getWeeklyVolume().get(0).getAverageVolume());
+        }
+}
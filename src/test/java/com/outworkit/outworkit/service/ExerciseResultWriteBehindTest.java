@@ -0,0 +1,70 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.entity.ExerciseResult;
+import com.outworkit.outworkit.entity.WorkoutExercise;
+import com.outworkit.outworkit.repository.WorkoutBatchInserter;
+import com.outworkit.outworkit.repository.WorkoutExerciseRepository;
+import com.outworkit.outworkit.repository.WorkoutExerciseTargetView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExerciseResultWriteBehindTest {
+
+        private final WorkoutExerciseRepository workoutExerciseRepository = mock(WorkoutExerciseRepository.class);
+        private final WorkoutBatchInserter workoutBatchInserter = mock(WorkoutBatchInserter.class);
+        private final PersonalRecordService personalRecordService = mock(PersonalRecordService.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Test
+        void writer_survivesBatchThatFailsOutsideTheDatabase() throws InterruptedException {
+                target(1L, 10L);
+                target(2L, 20L);
+                doThrow(new IllegalStateException("boom")).when(personalRecordService).recompute(10L, 100L);
+
+                ExerciseResultWriteBehind writeBehind = new ExerciseResultWriteBehind(workoutExerciseRepository,
+                        workoutBatchInserter, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                        personalRecordService, mock(DailyRollupService.class), mock(SetHistoryStore.class),
+                        mock(AnalyticsCache.class), mock(UserDataVersionService.class), meterRegistry,
+                        true, 100, 1, Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(5));
+                try {
+                        writeBehind.submit(result(1L));
+                        verify(personalRecordService, timeout(2000).times(2)).recompute(10L, 100L);
+
+                        writeBehind.submit(result(2L));
+                        verify(personalRecordService, timeout(2000)).recompute(20L, 200L);
+                        assertEquals(1.0, meterRegistry.counter("outworkit.sets.dropped").count());
+                } finally {
+                        writeBehind.shutdown();
+                }
+        }
+
+        private void target(Long workoutExerciseId, Long userId) {
+                WorkoutExerciseTargetView target = mock(WorkoutExerciseTargetView.class);
+                when(target.getId()).thenReturn(workoutExerciseId);
+                when(target.getUserId()).thenReturn(userId);
+                when(target.getExerciseId()).thenReturn(userId * 10);
+                when(target.getWorkoutDate()).thenReturn(LocalDateTime.of(2025, 1, 1, 10, 0));
+                when(workoutExerciseRepository.findTargetById(workoutExerciseId)).thenReturn(Optional.of(target));
+        }
+
+        private static ExerciseResult result(Long workoutExerciseId) {
+                WorkoutExercise workoutExercise = new WorkoutExercise();
+                workoutExercise.setId(workoutExerciseId);
+                ExerciseResult result = new ExerciseResult();
+                result.setWorkoutExercise(workoutExercise);
+                result.setSetNumber(1);
+                result.setReps(5);
+                result.setWeight(100);
+                return result;
+        }
+}
@@ -0,0 +1,63 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.ExerciseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExerciseSearchIndexTest {
+
+        private static final ExerciseSearchIndex INDEX = new ExerciseSearchIndex(
+                List.of(new ExerciseDTO(1L, "Bench Press", 1L, 1L),
+                        new ExerciseDTO(2L, "Incline Bench Press", 2L, 1L),
+                        new ExerciseDTO(3L, "Back Squat", 1L, 2L),
+                        new ExerciseDTO(4L, "Leg Press", 3L, 2L),
+                        new ExerciseDTO(5L, "Press Francés", 2L, 3L)),
+                Map.of(1L, "Barbell", 2L, "Dumbbell", 3L, "Machine"),
+                Map.of(1L, "Chest", 2L, "Legs", 3L, "Triceps"));
+
+        private static List<Long> search(String query) {
+                return INDEX.search(query, 10).stream().map(ExerciseDTO::getId).toList();
+        }
+
+        @Test
+        void search_completesPrefixesAndRanksNameStartsFirst() {
+                assertEquals(List.of(1L, 2L), search("ben"));
+                assertEquals(List.of(1L, 2L), search("bench pr"));
+                assertEquals(List.of(5L, 4L, 1L, 2L), search("press"));
+        }
+
+        @Test
+        void search_matchesEquipmentAndMuscleGroupNames() {
+                assertEquals(List.of(4L, 3L), search("legs"));
+                assertEquals(List.of(3L, 1L), search("barbell"));
+                assertEquals(List.of(2L), search("dumbbell bench"));
+        }
+
+        @Test
+        void search_toleratesTyposAndAccents() {
+                assertEquals(List.of(3L), search("sqaut"));
+                assertEquals(List.of(1L, 2L), search("bnech"));
+                assertEquals(List.of(3L), search("squta"));
+                assertEquals(List.of(5L), search("frances"));
+                assertEquals(List.of(), search("xyz"));
+        }
+
+        @Test
+        void search_requiresEveryWordAndHonoursLimit() {
+                assertEquals(List.of(), search("bench squat"));
+                assertEquals(1, INDEX.search("press", 1).size());
+                assertEquals(List.of(), search("  -  "));
+        }
+
+        @Test
+        void prefixDistance_countsEditsAgainstTheBestPrefix() {
+                assertEquals(0, ExerciseSearchIndex.prefixDistance("benc", "bench", 1));
+                assertEquals(1, ExerciseSearchIndex.prefixDistance("bnec", "bench", 1));
+                assertEquals(1, ExerciseSearchIndex.prefixDistance("sqaut", "squat", 2));
+                assertEquals(2, ExerciseSearchIndex.prefixDistance("curl", "press", 1));
+        }
+}
@@ -0,0 +1,75 @@
+package com.outworkit.outworkit.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+        @Test
+        void put_keepsScoreOrderWithTiesByUserId() {
+                Leaderboard board = new Leaderboard();
+                board.put(3L, 100.0);
+                board.put(1L, 120.0);
+                board.put(2L, 100.0);
+                board.put(4L, 80.0);
+
+                assertEquals(4, board.size());
+                assertEquals(List.of(1L, 2L, 3L, 4L), userIds(board));
+                assertEquals(1, board.rankOf(120.0));
+                assertEquals(2, board.rankOf(board.scoreOf(2L)));
+                assertEquals(2, board.rankOf(board.scoreOf(3L)));
+                assertEquals(4, board.rankOf(80.0));
+        }
+
+        @Test
+        void put_replacesAndRemoveDropsUser() {
+                Leaderboard board = new Leaderboard();
+                board.put(1L, 100.0);
+                board.put(2L, 90.0);
+                board.put(2L, 110.0);
+                board.remove(1L);
+                board.remove(9L);
+
+                assertEquals(1, board.size());
+                assertEquals(110.0, board.scoreOf(2L));
+                assertNull(board.scoreOf(1L));
+                assertEquals(List.of(2L), userIds(board));
+        }
+
+        @Test
+        void randomUpdates_matchFullSort() {
+                Random random = new Random(42);
+                Leaderboard board = new Leaderboard();
+                Map<Long, Double> expected = new HashMap<>();
+                for (int i = 0; i < 2000; i++) {
+                        long userId = random.nextInt(200);
+                        if (random.nextInt(5) == 0) {
+                                board.remove(userId);
+                                expected.remove(userId);
+                        } else {
+                                double score = random.nextInt(50) * 2.5;
+                                board.put(userId, score);
+                                expected.put(userId, score);
+                        }
+                }
+
+                List<Map.Entry<Long, Double>> sorted = new ArrayList<>(expected.entrySet());
+                sorted.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+                assertEquals(sorted.stream().map(Map.Entry::getKey).toList(), userIds(board));
+                for (Map.Entry<Long, Double> entry : sorted) {
+                        long higher = expected.values().stream().filter(score -> score > entry.getValue()).count();
+                        assertEquals(higher + 1, board.rankOf(entry.getValue()));
+                }
+        }
+
+        private static List<Long> userIds(Leaderboard board) {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < board.size(); i++) {
+                        ids.add(board.userId(i));
+                }
+                return ids;
+        }
+}
@@ -0,0 +1,135 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.entity.OneRepMaxSketchCheckpoint;
+import com.outworkit.outworkit.repository.ExerciseRepository;
+import com.outworkit.outworkit.repository.OneRepMaxSketchCheckpointRepository;
+import com.outworkit.outworkit.repository.PersonalRecordRepository;
+import com.outworkit.outworkit.repository.RecordScoreView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LiftPercentileServiceTest {
+
+        private static final long EXERCISE_ID = 1L;
+
+        private final OneRepMaxSketchCheckpointRepository checkpointRepository = mock(OneRepMaxSketchCheckpointRepository.class);
+        private final PersonalRecordRepository personalRecordRepository = mock(PersonalRecordRepository.class);
+        private final ExerciseRepository exerciseRepository = mock(ExerciseRepository.class);
+        private final Map<Long, OneRepMaxSketchCheckpoint> rows = new HashMap<>();
+        private LiftPercentileService service;
+
+        @BeforeEach
+        void setUp() {
+                when(checkpointRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(rows.values()));
+                when(checkpointRepository.findForUpdate(anyLong()))
+                        .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<Long>getArgument(0))));
+                when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+                        OneRepMaxSketchCheckpoint checkpoint = invocation.getArgument(0);
+                        rows.put(checkpoint.getExerciseId(), checkpoint);
+                        return checkpoint;
+                });
+                when(checkpointRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                        List<OneRepMaxSketchCheckpoint> checkpoints = invocation.getArgument(0);
+                        checkpoints.forEach(checkpoint -> rows.put(checkpoint.getExerciseId(), checkpoint));
+                        return checkpoints;
+                });
+                doAnswer(invocation -> {
+                        rows.clear();
+                        return null;
+                }).when(checkpointRepository).deleteAllInBatch();
+                when(exerciseRepository.existsById(EXERCISE_ID)).thenReturn(true);
+                service = new LiftPercentileService(checkpointRepository, personalRecordRepository,
+                        exerciseRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                        Duration.ofMinutes(1));
+        }
+
+        @Test
+        void checkpoint_mergesChangesIntoTheLoadedRow() {
+                row(null, 100.0);
+                service.checkpoint();
+
+                service.onScoreChanged(EXERCISE_ID, null, 120.0);
+
+                assertEquals(1, service.checkpoint());
+                assertEquals(2, rows.get(EXERCISE_ID).getLifters());
+                assertEquals(2, service.getPercentile(EXERCISE_ID, 110.0).getLifters());
+        }
+
+        @Test
+        void checkpoint_dropsChangesPredatingARebuildOnAnotherInstance() {
+                row(null, 100.0);
+                service.checkpoint();
+                service.onScoreChanged(EXERCISE_ID, null, 120.0);
+
+                // Another instance rebuilt from the personal records table, which already holds the change
+                row(LocalDateTime.of(2025, 1, 1, 10, 0), 100.0, 120.0);
+
+                assertEquals(0, service.checkpoint());
+                assertEquals(2, rows.get(EXERCISE_ID).getLifters());
+                assertEquals(2, service.getPercentile(EXERCISE_ID, 110.0).getLifters());
+
+                service.onScoreChanged(EXERCISE_ID, null, 140.0);
+                assertEquals(1, service.checkpoint());
+                assertEquals(3, rows.get(EXERCISE_ID).getLifters());
+        }
+
+        @Test
+        void rebuild_waitsForAChangeCommittingWhileScoresAreRead() throws InterruptedException {
+                RecordScoreView score = mock(RecordScoreView.class);
+                when(score.getUserId()).thenReturn(7L);
+                when(score.getExerciseId()).thenReturn(EXERCISE_ID);
+                when(score.getOneRepMax()).thenReturn(120.0);
+                when(personalRecordRepository.findAllScores()).thenReturn(List.of(score));
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        service.onScoreChanged(EXERCISE_ID, null, 120.0);
+                        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+                        // The record has committed, so the rebuild reads it, but its change is not applied yet
+                        Thread rebuild = new Thread(service::rebuild);
+                        rebuild.start();
+                        rebuild.join(200);
+                        assertTrue(rebuild.isAlive());
+
+                        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+                        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                                TransactionSynchronization.STATUS_COMMITTED);
+                        rebuild.join(5000);
+                        assertFalse(rebuild.isAlive());
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                assertEquals(0, service.checkpoint());
+                assertEquals(1, rows.get(EXERCISE_ID).getLifters());
+                assertEquals(1, service.getPercentile(EXERCISE_ID, 110.0).getLifters());
+        }
+
+        private void row(LocalDateTime rebuiltAt, double... oneRepMaxes) {
+                OneRepMaxSketch sketch = new OneRepMaxSketch();
+                for (double oneRepMax : oneRepMaxes) {
+                        sketch.add(oneRepMax);
+                }
+                OneRepMaxSketchCheckpoint checkpoint = new OneRepMaxSketchCheckpoint();
+                checkpoint.setExerciseId(EXERCISE_ID);
+                checkpoint.setBuckets(sketch.toBytes());
+                checkpoint.setLifters(sketch.count());
+                checkpoint.setRebuiltAt(rebuiltAt);
+                rows.put(EXERCISE_ID, checkpoint);
+        }
+}
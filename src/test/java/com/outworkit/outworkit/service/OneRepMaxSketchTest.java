@@ -0,0 +1,70 @@
+package com.outworkit.outworkit.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OneRepMaxSketchTest {
+
+        @Test
+        void exactRank_liesWithinReportedBucket() {
+                Random random = new Random(7);
+                OneRepMaxSketch sketch = new OneRepMaxSketch();
+                List<Double> values = new ArrayList<>();
+                for (int i = 0; i < 5000; i++) {
+                        double value = 20 + random.nextGaussian() * 15 + 80;
+                        values.add(Math.max(0, value));
+                        sketch.add(Math.max(0, value));
+                }
+
+                for (double probe : new double[]{0, 35.5, 80, 100, 100.25, 131, 400}) {
+                        long exactBelow = values.stream().filter(v -> v < probe).count();
+                        long below = sketch.countBelow(probe);
+                        assertTrue(below <= exactBelow && exactBelow <= below + sketch.countAt(probe), "probe " + probe);
+                }
+                // Values sharing a bucket are within the relative accuracy of the probe
+                long near = values.stream().filter(v -> Math.abs(v - 100) <= 100 * 2 * OneRepMaxSketch.RELATIVE_ACCURACY).count();
+                assertTrue(sketch.countAt(100) <= near);
+        }
+
+        @Test
+        void merge_andRemove_matchSketchOfRemainingValues() {
+                OneRepMaxSketch first = new OneRepMaxSketch();
+                first.add(100);
+                first.add(0);
+                OneRepMaxSketch delta = new OneRepMaxSketch();
+                delta.remove(100);
+                delta.add(150);
+                delta.add(60);
+
+                first.merge(delta);
+
+                OneRepMaxSketch expected = new OneRepMaxSketch();
+                expected.add(0);
+                expected.add(60);
+                expected.add(150);
+                assertEquals(3, first.count());
+                assertArrayEquals(expected.toBytes(), first.toBytes());
+                assertEquals(2, first.countBelow(150));
+                assertEquals(0, first.countAt(100));
+        }
+
+        @Test
+        void bytes_roundTripSignedCounts() {
+                OneRepMaxSketch delta = new OneRepMaxSketch();
+                delta.remove(90);
+                delta.add(120);
+                delta.add(0);
+
+                OneRepMaxSketch copy = OneRepMaxSketch.fromBytes(delta.toBytes());
+
+                assertEquals(delta.count(), copy.count());
+                assertEquals(-1, copy.countAt(90));
+                assertEquals(1, copy.countAt(120));
+                assertTrue(OneRepMaxSketch.fromBytes(null).isEmpty());
+        }
+}
@@ -0,0 +1,67 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.EquipmentDTO;
+import com.outworkit.outworkit.dto.ExerciseDTO;
+import com.outworkit.outworkit.dto.SplitDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCatalogTest {
+
+        private static List<Long> ids(List<SplitDTO> splits) {
+                return splits.stream().map(SplitDTO::getId).toList();
+        }
+
+        private static ReferenceCatalog catalog() {
+                return new ReferenceCatalog(
+                        List.of(new ExerciseDTO(2L, "Squat", 1L, 2L), new ExerciseDTO(1L, "Bench Press", 1L, 1L)),
+                        List.of(new EquipmentDTO(1L, "Barbell", null), new EquipmentDTO(3L, "barbell", null)),
+                        List.of(), List.of(),
+                        List.of(new SplitDTO(5L, "A", null), new SplitDTO(2L, "B", null),
+                                new SplitDTO(9L, "C", null), new SplitDTO(7L, "D", null)),
+                        LocalDateTime.now());
+        }
+
+        @Test
+        void tables_areSortedAndIndexedById() {
+                ReferenceCatalog catalog = catalog();
+
+                assertEquals(List.of(1L, 2L), catalog.exercises().all().stream().map(ExerciseDTO::getId).toList());
+                assertEquals("Squat", catalog.exercises().get(2L).orElseThrow().getName());
+                assertTrue(catalog.exercises().get(3L).isEmpty());
+        }
+
+        @Test
+        void names_matchIgnoringCaseAndLowestIdWins() {
+                ReferenceCatalog catalog = catalog();
+
+                assertEquals(Optional.of(1L), catalog.exerciseIdByName("BENCH press"));
+                assertEquals(Optional.of(1L), catalog.equipmentIdByName("BARBELL"));
+                assertTrue(catalog.exerciseIdByName("Deadlift").isEmpty());
+        }
+
+        @Test
+        void after_pagesAscendingPastTheCursor() {
+                ReferenceCatalog.Table<SplitDTO> splits = catalog().splits();
+
+                assertEquals(List.of(2L, 5L, 7L), ids(splits.after(null, false, 3)));
+                assertEquals(List.of(7L, 9L), ids(splits.after(5L, false, 3)));
+                assertEquals(List.of(7L, 9L), ids(splits.after(6L, false, 3)));
+                assertEquals(List.of(), ids(splits.after(9L, false, 3)));
+        }
+
+        @Test
+        void after_pagesDescendingBeforeTheCursor() {
+                ReferenceCatalog.Table<SplitDTO> splits = catalog().splits();
+
+                assertEquals(List.of(9L, 7L, 5L), ids(splits.after(null, true, 3)));
+                assertEquals(List.of(5L, 2L), ids(splits.after(7L, true, 3)));
+                assertEquals(List.of(5L, 2L), ids(splits.after(6L, true, 3)));
+                assertEquals(List.of(), ids(splits.after(2L, true, 3)));
+        }
+}
@@ -0,0 +1,49 @@
+package com.outworkit.outworkit.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSetHistoryTest {
+
+        @Test
+        void append_growsWithoutChangingOlderViews() {
+                UserSetHistory empty = UserSetHistory.withCapacity(0);
+                UserSetHistory history = empty;
+                for (int i = 0; i < 20; i++) {
+                        history = history.append(100L + i, i / 3, i / 3, 7L, 50.0 + i, 5);
+                }
+                UserSetHistory snapshot = history;
+                UserSetHistory longer = history.append(200L, 9L, 9L, 8L, 80.0, 3);
+
+                assertEquals(0, empty.size());
+                assertEquals(20, snapshot.size());
+                assertEquals(21, longer.size());
+                assertEquals(8L, longer.exerciseId(20));
+                assertEquals(69.0, longer.weight(19));
+        }
+
+        @Test
+        void append_rejectsRowsOutOfTimeOrder() {
+                UserSetHistory history = UserSetHistory.withCapacity(4).append(100L, 2L, 5L, 1L, 60.0, 5);
+
+                assertTrue(history.canAppend(100L, 2L, 5L));
+                assertTrue(history.canAppend(100L, 3L, 1L));
+                assertFalse(history.canAppend(100L, 2L, 4L));
+                assertFalse(history.canAppend(100L, 1L, 9L));
+                assertThrows(IllegalArgumentException.class, () -> history.append(99L, 3L, 6L, 1L, 60.0, 5));
+        }
+
+        @Test
+        void lowerBound_findsFirstRowAtOrAfterTime() {
+                UserSetHistory history = UserSetHistory.withCapacity(4)
+                        .append(10L, 1L, 1L, 1L, 60.0, 5)
+                        .append(10L, 1L, 1L, 1L, 60.0, 5)
+                        .append(20L, 2L, 2L, 1L, 60.0, 5);
+
+                assertEquals(0, history.lowerBound(5L));
+                assertEquals(0, history.lowerBound(10L));
+                assertEquals(2, history.lowerBound(11L));
+                assertEquals(3, history.lowerBound(21L));
+        }
+}
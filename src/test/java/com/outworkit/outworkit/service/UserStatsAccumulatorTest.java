@@ -0,0 +1,213 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.dto.PersonalRecordDTO;
+import com.outworkit.outworkit.dto.UserStatsDTO;
+import com.outworkit.outworkit.entity.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserStatsAccumulatorTest {
+
+        private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+        @Test
+        void toDTO_foldsTotalsAndTopRecordsInOnePass() {
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                accumulator.accept(workout(1L, TODAY.minusDays(1), exercise(1L, "Bench Press", "Chest"), 100, 5));
+                accumulator.accept(workout(2L, TODAY, exercise(1L, "Bench Press", "Chest"), 110, 3));
+                accumulator.accept(workout(3L, TODAY, exercise(2L, "Squat", "Legs"), 140, 5));
+
+                User user = new User();
+                user.setId(7L);
+                user.setUserName("ana");
+                UserStatsDTO stats = accumulator.toDTO(user, 2, 2);
+
+                assertEquals(3, stats.getOverall().getTotalWorkouts());
+                assertEquals(3, stats.getOverall().getTotalSets());
+                assertEquals(500 + 330 + 700, stats.getOverall().getTotalVolumeLifted());
+                assertEquals(2, stats.getOverall().getCurrentStreak());
+                assertEquals(2, stats.getMuscleGroupBreakdown().get("Chest").getTotalSets());
+                assertEquals(2L, stats.getTopPersonalRecords().get(0).getExerciseId());
+                assertEquals(110.0, stats.getTopPersonalRecords().get(1).getMaxWeight());
+        }
+
+        @Test
+        void toDTO_ofEmptyHistory_isZeroed() {
+                UserStatsDTO stats = new UserStatsAccumulator().toDTO(user(), 0, 0);
+
+                assertEquals(7L, stats.getUserId());
+                assertEquals("ana", stats.getUserName());
+                assertEquals(0, stats.getOverall().getTotalWorkouts());
+                assertEquals(0, stats.getOverall().getTotalExercises());
+                assertEquals(0, stats.getOverall().getTotalSets());
+                assertEquals(0, stats.getOverall().getTotalReps());
+                assertEquals(0.0, stats.getOverall().getTotalVolumeLifted());
+                assertNull(stats.getOverall().getFirstWorkout());
+                assertNull(stats.getOverall().getLastWorkout());
+                assertEquals(0.0, stats.getOverall().getAverageWorkoutsPerWeek());
+                assertEquals(0, stats.getOverall().getCurrentStreak());
+                assertEquals(0, stats.getOverall().getLongestStreak());
+                assertTrue(stats.getTopPersonalRecords().isEmpty());
+                assertTrue(stats.getMuscleGroupBreakdown().isEmpty());
+                assertTrue(stats.getWorkoutFrequency().isEmpty());
+        }
+
+        @Test
+        void toDTO_ofSingleWorkout_countsItOnce() {
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                accumulator.accept(workout(1L, TODAY, exercise(1L, "Bench Press", "Chest"), 100, 6));
+
+                UserStatsDTO stats = accumulator.toDTO(user(), 1, 1);
+
+                assertEquals(1, stats.getOverall().getTotalWorkouts());
+                assertEquals(1, stats.getOverall().getTotalExercises());
+                assertEquals(1, stats.getOverall().getTotalSets());
+                assertEquals(6, stats.getOverall().getTotalReps());
+                assertEquals(600.0, stats.getOverall().getTotalVolumeLifted());
+                assertEquals(TODAY.atTime(12, 0), stats.getOverall().getFirstWorkout());
+                assertEquals(TODAY.atTime(12, 0), stats.getOverall().getLastWorkout());
+                // Less than a week of history averages to the workouts themselves
+                assertEquals(1.0, stats.getOverall().getAverageWorkoutsPerWeek());
+
+                assertEquals(1, stats.getTopPersonalRecords().size());
+                PersonalRecordDTO pr = stats.getTopPersonalRecords().get(0);
+                assertEquals(1L, pr.getExerciseId());
+                assertEquals(100.0, pr.getMaxWeight());
+                assertEquals(6, pr.getRepsAtMaxWeight());
+                assertEquals(120.0, pr.getOneRepMax());
+                assertEquals(1L, pr.getWorkoutId());
+
+                UserStatsDTO.MuscleGroupStats chest = stats.getMuscleGroupBreakdown().get("Chest");
+                assertEquals(1, stats.getMuscleGroupBreakdown().size());
+                assertEquals(1, chest.getTotalSets());
+                assertEquals(600.0, chest.getTotalVolume());
+                assertEquals(TODAY.atTime(12, 0), chest.getLastWorked());
+
+                assertEquals(1, stats.getWorkoutFrequency().size());
+                assertEquals("2025-W11", stats.getWorkoutFrequency().get(0).getPeriod());
+                assertEquals(1, stats.getWorkoutFrequency().get(0).getWorkoutCount());
+                assertEquals(600.0, stats.getWorkoutFrequency().get(0).getTotalVolume());
+        }
+
+        @Test
+        void accept_skipsUndatedWorkouts() {
+                Exercise bench = exercise(1L, "Bench Press", "Chest");
+                Workout undated = workout(1L, TODAY, bench, 200, 5);
+                undated.setCreatedAt(null);
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                accumulator.accept(undated);
+                accumulator.accept(workout(2L, TODAY, bench, 100, 5));
+
+                UserStatsDTO stats = accumulator.toDTO(user(), 1, 1);
+
+                assertEquals(1, stats.getOverall().getTotalWorkouts());
+                assertEquals(500.0, stats.getOverall().getTotalVolumeLifted());
+                assertEquals(TODAY.atTime(12, 0), stats.getOverall().getFirstWorkout());
+                assertEquals(100.0, stats.getTopPersonalRecords().get(0).getMaxWeight());
+                assertEquals(1, stats.getWorkoutFrequency().size());
+                assertEquals(1, stats.getWorkoutFrequency().get(0).getWorkoutCount());
+        }
+
+        @Test
+        void topPersonalRecords_keepTheEarliestOfEqualWeights() {
+                Exercise bench = exercise(1L, "Bench Press", "Chest");
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                accumulator.accept(workout(1L, TODAY.minusDays(2), bench, 100, 5));
+                accumulator.accept(workout(2L, TODAY.minusDays(1), bench, 100, 8));
+                accumulator.accept(workout(3L, TODAY, bench, 90, 12));
+
+                PersonalRecordDTO pr = accumulator.toDTO(user(), 0, 0).getTopPersonalRecords().get(0);
+
+                assertEquals(100.0, pr.getMaxWeight());
+                assertEquals(5, pr.getRepsAtMaxWeight());
+                assertEquals(1L, pr.getWorkoutId());
+                assertEquals(TODAY.minusDays(2).atTime(12, 0), pr.getAchievedDate());
+        }
+
+        @Test
+        void topPersonalRecords_cutTiesAtTheTenthPlace() {
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                // Singles, so each 1RM is the weight: 120, 110, ..., 30 and a second 30
+                for (int i = 0; i < 11; i++) {
+                        long id = i + 1;
+                        double weight = i < 10 ? 120 - 10 * i : 30;
+                        accumulator.accept(workout(id, TODAY, exercise(id, "Exercise " + id, "Chest"), weight, 1));
+                }
+
+                List<PersonalRecordDTO> top = accumulator.toDTO(user(), 0, 0).getTopPersonalRecords();
+
+                assertEquals(UserStatsAccumulator.TOP_PERSONAL_RECORDS, top.size());
+                for (int i = 0; i < top.size(); i++) {
+                        assertEquals(120.0 - 10 * i, top.get(i).getOneRepMax());
+                }
+                assertTrue(top.get(9).getExerciseId() == 10L || top.get(9).getExerciseId() == 11L);
+        }
+
+        @Test
+        void toDTO_reportsStreaksOfTheCalendarBuiltFromTheSameWorkouts() {
+                // Yesterday, a rest day, two days, a rest day, then three days in a row
+                assertStreaks(6, 3, 1, 3, 4, 6, 7, 8);
+                // Two rest days end the current streak
+                assertStreaks(1, 2, 1, 4, 5);
+                // Nothing today or yesterday: no current streak
+                assertStreaks(0, 2, 2, 3);
+                // Today alone
+                assertStreaks(1, 1, 0);
+        }
+
+        /**
+         * Streaks over workouts on the given days before {@link #TODAY}, as {@code getUserStats} computes them
+         */
+        private static void assertStreaks(int current, int longest, int... daysAgo) {
+                UserStatsAccumulator accumulator = new UserStatsAccumulator();
+                long[] epochDays = new long[daysAgo.length];
+                for (int i = 0; i < daysAgo.length; i++) {
+                        LocalDate day = TODAY.minusDays(daysAgo[i]);
+                        accumulator.accept(workout(i + 1L, day, exercise(1L, "Bench Press", "Chest"), 100, 5));
+                        epochDays[i] = day.toEpochDay();
+                }
+                ActivityCalendar calendar = ActivityCalendar.of(epochDays);
+
+                UserStatsDTO stats = accumulator.toDTO(user(), calendar.currentStreak(TODAY.toEpochDay()), calendar.longestStreak());
+
+                assertEquals(current, stats.getOverall().getCurrentStreak(), () -> "current streak of " + Arrays.toString(daysAgo));
+                assertEquals(longest, stats.getOverall().getLongestStreak(), () -> "longest streak of " + Arrays.toString(daysAgo));
+        }
+
+        private static User user() {
+                User user = new User();
+                user.setId(7L);
+                user.setUserName("ana");
+                return user;
+        }
+
+        private static Exercise exercise(Long id, String name, String muscleGroupName) {
+                MuscleGroup muscleGroup = new MuscleGroup();
+                muscleGroup.setName(muscleGroupName);
+                Exercise exercise = new Exercise();
+                exercise.setId(id);
+                exercise.setName(name);
+                exercise.setMuscleGroup(muscleGroup);
+                return exercise;
+        }
+
+        private static Workout workout(Long id, LocalDate date, Exercise exercise, double weight, int reps) {
+                Workout workout = new Workout();
+                workout.setId(id);
+                workout.setCreatedAt(LocalDateTime.of(date, java.time.LocalTime.NOON));
+                WorkoutExercise we = new WorkoutExercise();
+                we.setExercise(exercise);
+                ExerciseResult result = new ExerciseResult();
+                result.setWeight(weight);
+                result.setReps(reps);
+                we.getResults().add(result);
+                workout.getWorkoutExercises().add(we);
+                return workout;
+        }
+}
@@ -0,0 +1,44 @@
+package com.outworkit.outworkit.service;
+
+import com.outworkit.outworkit.controller.exception.BadRequestException;
+import com.outworkit.outworkit.dto.ImportReportDTO;
+import com.outworkit.outworkit.dto.WorkoutImportRowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkoutImportCsvReaderTest {
+
+        @Test
+        void read_mapsColumnsByHeaderAndKeepsRowNumbers() {
+                List<ImportReportDTO.RowError> errors = new ArrayList<>();
+                List<WorkoutImportRowDTO> rows = WorkoutImportCsvReader.read(
+                        "weight,reps,exercise,date\n" +
+                        "100.5,5,\"Press, Bench\",2025-01-02T10:00:00\n" +
+                        "\n" +
+                        "abc,5,Squat,2025-01-02\n", errors);
+
+                assertEquals(3, rows.size());
+                assertEquals("Press, Bench", rows.get(0).getExercise());
+                assertEquals(100.5, rows.get(0).getWeight());
+                assertNull(rows.get(0).getSetNumber());
+                assertNull(rows.get(1));
+                assertNull(rows.get(2));
+                assertEquals(1, errors.size());
+                assertEquals(3, errors.get(0).getRow());
+        }
+
+        @Test
+        void read_rejectsHeaderWithoutRequiredColumns() {
+                assertThrows(BadRequestException.class,
+                        () -> WorkoutImportCsvReader.read("date,exercise,reps\n", new ArrayList<>()));
+        }
+
+        @Test
+        void splitLine_unescapesDoubledQuotes() {
+                assertEquals(List.of("a \"b\"", "", "c"), WorkoutImportCsvReader.splitLine("\"a \"\"b\"\"\",,c"));
+        }
+}